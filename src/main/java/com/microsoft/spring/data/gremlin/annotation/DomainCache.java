@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.annotation;
+
+import com.microsoft.spring.data.gremlin.common.GremlinCachePolicy;
+
+import java.lang.annotation.*;
+
+/**
+ * Specifies how the domains of a {@link Vertex} or {@link Edge} class are cached, instead of the settings of
+ * GremlinConfig.
+ */
+@Inherited
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DomainCache {
+    /**
+     * How the cached domains follow the writes, {@link GremlinCachePolicy#NONE} to never cache them.
+     */
+    GremlinCachePolicy policy() default GremlinCachePolicy.INVALIDATE_ON_WRITE;
+
+    /**
+     * The max number of cached domains of the class.
+     * @return the max size of GremlinConfig if not positive.
+     */
+    long maxSize() default 0;
+
+    /**
+     * The milliseconds a domain stays cached after being read or written.
+     * @return the expiry of GremlinConfig if not positive.
+     */
+    long expireAfterWrite() default 0;
+}
@@ -17,4 +17,12 @@ import java.lang.annotation.*;
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
 public @interface EdgeTo {
+
+    /**
+     * Load the target vertex on first access of the field instead of along with the edge. Only applies to fields of
+     * non final domain class, which then refer to a proxy holding the vertex id. The first access queries the
+     * target vertex synchronously and blocks the calling thread, also for edges found by the async or reactive
+     * templates, so it should not happen on the threads of the driver or of a reactive pipeline.
+     */
+    boolean lazy() default false;
 }
@@ -41,6 +41,17 @@ public class Constants {
     public static final int DEFAULT_MAX_IN_PROCESS_PER_CONNECTION = 4;
     public static final long DEFAULT_KEEP_ALIVE_INTERVAL = 1800000L;
     public static final int DEFAULT_WORKER_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    public static final int DEFAULT_EXECUTOR_POOL_SIZE =
+        DEFAULT_MAX_CONNECTION_POOL_SIZE * DEFAULT_MAX_IN_PROCESS_PER_CONNECTION;
+    public static final int DEFAULT_EXECUTOR_QUEUE_CAPACITY = 1024;
+    public static final long DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS = 60L;
+    public static final String DEFAULT_EXECUTOR_THREAD_PREFIX = "gremlin-query-";
+    public static final int DEFAULT_REACTIVE_FETCH_SIZE = 64;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final long DEFAULT_DOMAIN_CACHE_MAX_SIZE = 10000L;
+    public static final long DEFAULT_QUERY_CACHE_MAX_SIZE = 1000L;
+    public static final int BATCH_CONTENT_RESERVED_LENGTH = 1024;
+    public static final int BATCH_BINDING_OVERHEAD_LENGTH = 64;
 
     public static final String GREMLIN_MODULE_NAME = "Gremlin";
     public static final String GREMLIN_MODULE_PREFIX = "gremlin";
@@ -50,6 +61,12 @@ public class Constants {
     public static final String GREMLIN_PRIMITIVE_INVOKE = ".";
     public static final String GREMLIN_PRIMITIVE_DROP = "drop()";
     public static final String GREMLIN_PRIMITIVE_COUNT = "count()";
+    public static final String GREMLIN_PRIMITIVE_FOLD = "fold()";
+    public static final String GREMLIN_PRIMITIVE_LIMIT_ONE = "limit(1)";
+    public static final String GREMLIN_PRIMITIVE_ID = "id()";
+    public static final String GREMLIN_PRIMITIVE_SELECT = "select(%s)";
+    public static final String GREMLIN_PRIMITIVE_COALESCE_UNFOLD = "coalesce(unfold(), %s)";
+    public static final String GREMLIN_PRIMITIVE_COALESCE = "coalesce(%s, %s)";
 
     public static final String GREMLIN_PRIMITIVE_EDGE_ALL = "E()";
 
@@ -65,6 +82,10 @@ public class Constants {
     public static final String GREMLIN_PRIMITIVE_PROPERTY_DOUBLE = "property('%s', %f)";
     public static final String GREMLIN_PRIMITIVE_PROPERTY_BOOLEAN = "property('%s', %b)";
 
+    public static final String GREMLIN_PRIMITIVE_HAS_BINDING = "has('%s', %s)";
+    public static final String GREMLIN_PRIMITIVE_PROPERTY_BINDING = "property('%s', %s)";
+    public static final String GREMLIN_PRIMITIVE_UPDATE_PROPERTY_BINDING = "property(single, '%s', %s)";
+
     public static final String GREMLIN_PRIMITIVE_OUT_EDGE = "outE('%s')";
     public static final String GREMLIN_PRIMITIVE_IN_EDGE = "inE('%s')";
 
@@ -107,6 +128,18 @@ public class Constants {
             GREMLIN_PRIMITIVE_VERTEX_ALL
     );
 
+    public static final String GREMLIN_SCRIPT_EDGE_COUNT = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_EDGE_ALL,
+            GREMLIN_PRIMITIVE_COUNT
+    );
+
+    public static final String GREMLIN_SCRIPT_VERTEX_COUNT = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_VERTEX_ALL,
+            GREMLIN_PRIMITIVE_COUNT
+    );
+
     public static final String GREMLIN_SCRIPT_EDGE_DROP_ALL = String.join(GREMLIN_PRIMITIVE_INVOKE,
             GREMLIN_PRIMITIVE_GRAPH,
             GREMLIN_PRIMITIVE_EDGE_ALL,
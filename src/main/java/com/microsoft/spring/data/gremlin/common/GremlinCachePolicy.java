@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+/**
+ * How the domains cached by GremlinTemplate follow the writes of update, save and saveAll. The domains read from
+ * the server, including the one returned by insert, are cached by every policy but {@link #NONE}, and deleteById
+ * and deleteAll always evict the deleted ones.
+ */
+public enum GremlinCachePolicy {
+
+    /**
+     * The written domain replaces the cached one, so findById after a write needs no query.
+     */
+    WRITE_THROUGH,
+
+    /**
+     * The cached domain is evicted on write, so findById after a write reads it again from the server.
+     */
+    INVALIDATE_ON_WRITE,
+
+    /**
+     * Writes leave the cache untouched, only for domains never changed after creation, e.g. reference data.
+     */
+    READ_THROUGH,
+
+    /**
+     * Domains are never cached, for hot mutable state that must always be read from the server.
+     */
+    NONE
+}
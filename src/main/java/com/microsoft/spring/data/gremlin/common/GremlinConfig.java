@@ -49,6 +49,32 @@ public class GremlinConfig {
 
     private int workerPoolSize = Constants.DEFAULT_WORKER_POOL_SIZE;
 
+    private boolean scriptBindingsEnabled;
+
+    private int executorPoolSize = Constants.DEFAULT_EXECUTOR_POOL_SIZE;
+
+    private int executorQueueCapacity = Constants.DEFAULT_EXECUTOR_QUEUE_CAPACITY;
+
+    private GremlinExecutor.RejectionPolicy executorRejectionPolicy = GremlinExecutor.RejectionPolicy.CALLER_RUNS;
+
+    private boolean executorVirtualThreadsEnabled;
+
+    private int batchSize = Constants.DEFAULT_BATCH_SIZE;
+
+    private long domainCacheMaxSize = Constants.DEFAULT_DOMAIN_CACHE_MAX_SIZE;
+
+    private long domainCacheExpireAfterWrite;
+
+    private long domainCacheExpireAfterAccess;
+
+    private GremlinCachePolicy domainCachePolicy = GremlinCachePolicy.INVALIDATE_ON_WRITE;
+
+    private boolean queryCacheEnabled;
+
+    private long queryCacheMaxSize = Constants.DEFAULT_QUERY_CACHE_MAX_SIZE;
+
+    private long queryCacheExpireAfterWrite;
+
     public static GremlinConfigBuilder builder(String endpoint, String username, String password) {
         return defaultBuilder()
             .endpoint(endpoint)
@@ -67,6 +93,19 @@ public class GremlinConfig {
             .minInProcessPerConnection(Constants.DEFAULT_MIN_IN_PROCESS_PER_CONNECTION)
             .maxInProcessPerConnection(Constants.DEFAULT_MAX_IN_PROCESS_PER_CONNECTION)
             .keepAliveInterval(Constants.DEFAULT_KEEP_ALIVE_INTERVAL)
-            .workerPoolSize(Constants.DEFAULT_WORKER_POOL_SIZE);
+            .workerPoolSize(Constants.DEFAULT_WORKER_POOL_SIZE)
+            .scriptBindingsEnabled(false)
+            .executorPoolSize(Constants.DEFAULT_EXECUTOR_POOL_SIZE)
+            .executorQueueCapacity(Constants.DEFAULT_EXECUTOR_QUEUE_CAPACITY)
+            .executorRejectionPolicy(GremlinExecutor.RejectionPolicy.CALLER_RUNS)
+            .executorVirtualThreadsEnabled(false)
+            .batchSize(Constants.DEFAULT_BATCH_SIZE)
+            .domainCacheMaxSize(Constants.DEFAULT_DOMAIN_CACHE_MAX_SIZE)
+            .domainCacheExpireAfterWrite(0L)
+            .domainCacheExpireAfterAccess(0L)
+            .domainCachePolicy(GremlinCachePolicy.INVALIDATE_ON_WRITE)
+            .queryCacheEnabled(false)
+            .queryCacheMaxSize(Constants.DEFAULT_QUERY_CACHE_MAX_SIZE)
+            .queryCacheExpireAfterWrite(0L);
     }
 }
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import java.util.Collection;
+
+/**
+ * Cache of the domains recovered by GremlinTemplate for one domain class, keyed by id. Implementations are
+ * expected to bound their entries, as an evicted or expired entry only costs one more query to the server.
+ * They must be safe for concurrent use.
+ *
+ * @see GremlinDomainCacheFactory
+ */
+public interface GremlinDomainCache {
+
+    /**
+     * @return the value cached for the id, or null if absent or expired.
+     */
+    @Nullable
+    Object get(@NonNull Object id);
+
+    void put(@NonNull Object id, @NonNull Object value);
+
+    void evict(@NonNull Object id);
+
+    default void evictAll(@NonNull Collection<?> ids) {
+        ids.forEach(this::evict);
+    }
+
+    void clear();
+
+    long size();
+
+    GremlinDomainCacheStats getStats();
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import com.microsoft.spring.data.gremlin.annotation.DomainCache;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Create the {@link GremlinDomainCache} of each domain class, so bounds, expiry and even the admission policy
+ * can differ between classes. Other cache libraries can be plugged by adapting them to {@link GremlinDomainCache}.
+ */
+@FunctionalInterface
+public interface GremlinDomainCacheFactory {
+
+    GremlinDomainCache create(@NonNull Class<?> domainClass);
+
+    /**
+     * Create a {@link LruGremlinDomainCache} for every domain class, bounded as described by its {@link DomainCache}
+     * annotation or else by the given config, defaults are used for the absent settings.
+     */
+    static GremlinDomainCacheFactory fromConfig(@Nullable GremlinConfig config) {
+        final long maxSize = config == null ? Constants.DEFAULT_DOMAIN_CACHE_MAX_SIZE : config.getDomainCacheMaxSize();
+        final long expireAfterWrite = config == null ? 0 : config.getDomainCacheExpireAfterWrite();
+        final long expireAfterAccess = config == null ? 0 : config.getDomainCacheExpireAfterAccess();
+
+        return domainClass -> {
+            final DomainCache domainCache = GremlinEntityInformation.get(domainClass).getDomainCache();
+
+            return LruGremlinDomainCache.builder()
+                .maxSize(domainCache == null || domainCache.maxSize() <= 0 ? maxSize : domainCache.maxSize())
+                .expireAfterWrite(domainCache == null || domainCache.expireAfterWrite() <= 0 ?
+                    expireAfterWrite : domainCache.expireAfterWrite())
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        };
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Snapshot of the lookups handled by a {@link GremlinDomainCache}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class GremlinDomainCacheStats {
+
+    /**
+     * Lookups that found a cached value.
+     */
+    private final long hitCount;
+
+    /**
+     * Lookups that found no value, including the expired ones.
+     */
+    private final long missCount;
+
+    /**
+     * Entries removed to honor the size or weight bound, or because they expired.
+     */
+    private final long evictionCount;
+
+    /**
+     * Entries currently cached.
+     */
+    private final long size;
+
+    /**
+     * @return the ratio of lookups that found a cached value, 1 when nothing was looked up yet.
+     */
+    public double getHitRate() {
+        final long requestCount = this.hitCount + this.missCount;
+
+        return requestCount == 0 ? 1.0 : (double) this.hitCount / requestCount;
+    }
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import com.microsoft.spring.data.gremlin.exception.GremlinIllegalConfigurationException;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Run the queries submitted by GremlinTemplate on a delegate {@link Executor}, either one provided by the
+ * application or a bounded pool created from {@link GremlinConfig}, and keep track of the active, queued and
+ * rejected tasks so the pool can be sized from {@link #getMetrics()}.
+ */
+public class GremlinExecutor implements Executor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GremlinExecutor.class);
+
+    private static final String VIRTUAL_THREAD_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    public enum RejectionPolicy {
+        /**
+         * Throw {@link RejectedExecutionException} when the executor is saturated.
+         */
+        ABORT,
+
+        /**
+         * Run the query on the calling thread when the executor is saturated, which slows down the caller.
+         */
+        CALLER_RUNS
+    }
+
+    private final Executor delegate;
+
+    @Getter
+    private final RejectionPolicy rejectionPolicy;
+
+    private final boolean owned;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+
+    private final AtomicInteger queuedCount = new AtomicInteger();
+
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    private final AtomicLong completedCount = new AtomicLong();
+
+    private GremlinExecutor(@NonNull Executor delegate, @NonNull RejectionPolicy rejectionPolicy, boolean owned) {
+        this.delegate = delegate;
+        this.rejectionPolicy = rejectionPolicy;
+        this.owned = owned;
+    }
+
+    /**
+     * Wrap the executor provided by the application, which is not shut down by {@link #shutdown()}.
+     */
+    public GremlinExecutor(@NonNull Executor delegate, @Nullable RejectionPolicy rejectionPolicy) {
+        this(delegate, rejectionPolicy == null ? RejectionPolicy.CALLER_RUNS : rejectionPolicy, false);
+    }
+
+    /**
+     * Create the executor described by the given config, defaults are used for the absent settings.
+     */
+    public static GremlinExecutor create(@Nullable GremlinConfig config) {
+        final RejectionPolicy policy = config == null || config.getExecutorRejectionPolicy() == null ?
+            RejectionPolicy.CALLER_RUNS : config.getExecutorRejectionPolicy();
+
+        if (config != null && config.isExecutorVirtualThreadsEnabled()) {
+            final ExecutorService virtualExecutor = createVirtualThreadExecutor();
+
+            if (virtualExecutor != null) {
+                return new GremlinExecutor(virtualExecutor, policy, true);
+            }
+
+            LOGGER.warn("Virtual threads are not available before JDK 21, use a bounded thread pool instead.");
+        }
+
+        final int poolSize = config == null || config.getExecutorPoolSize() <= 0 ?
+            Constants.DEFAULT_EXECUTOR_POOL_SIZE : config.getExecutorPoolSize();
+        final int queueCapacity = config == null || config.getExecutorQueueCapacity() <= 0 ?
+            Constants.DEFAULT_EXECUTOR_QUEUE_CAPACITY : config.getExecutorQueueCapacity();
+
+        return new GremlinExecutor(createThreadPool(poolSize, queueCapacity), policy, true);
+    }
+
+    private static ExecutorService createThreadPool(int poolSize, int queueCapacity) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable,
+                Constants.DEFAULT_EXECUTOR_THREAD_PREFIX + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        };
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(poolSize, poolSize,
+            Constants.DEFAULT_EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+            threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        pool.allowCoreThreadTimeOut(true);
+
+        return pool;
+    }
+
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_METHOD).invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new GremlinIllegalConfigurationException("failed to create virtual thread executor", e);
+        }
+    }
+
+    @Override
+    public void execute(@NonNull Runnable command) {
+        final Runnable task = () -> {
+            this.queuedCount.decrementAndGet();
+            this.activeCount.incrementAndGet();
+
+            try {
+                command.run();
+            } finally {
+                this.activeCount.decrementAndGet();
+                this.completedCount.incrementAndGet();
+            }
+        };
+
+        this.queuedCount.incrementAndGet();
+
+        try {
+            this.delegate.execute(task);
+        } catch (RejectedExecutionException e) {
+            this.rejectedCount.incrementAndGet();
+
+            if (this.rejectionPolicy == RejectionPolicy.CALLER_RUNS && !this.isShutdown()) {
+                task.run();
+            } else {
+                this.queuedCount.decrementAndGet();
+
+                throw e;
+            }
+        }
+    }
+
+    private boolean isShutdown() {
+        return this.delegate instanceof ExecutorService && ((ExecutorService) this.delegate).isShutdown();
+    }
+
+    public GremlinExecutorMetrics getMetrics() {
+        return new GremlinExecutorMetrics(this.activeCount.get(), this.queuedCount.get(), this.rejectedCount.get(),
+            this.completedCount.get());
+    }
+
+    /**
+     * Shutdown the delegate executor if it was created from {@link GremlinConfig}, the executor provided by
+     * the application is left to the application.
+     */
+    public void shutdown() {
+        if (this.owned && this.delegate instanceof ExecutorService) {
+            ((ExecutorService) this.delegate).shutdown();
+        }
+    }
+}
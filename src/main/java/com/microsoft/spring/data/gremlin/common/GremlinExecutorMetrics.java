@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Snapshot of the queries handled by {@link GremlinExecutor}.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class GremlinExecutorMetrics {
+
+    /**
+     * Queries being executed.
+     */
+    private final int activeCount;
+
+    /**
+     * Queries waiting for a thread of the executor.
+     */
+    private final int queuedCount;
+
+    /**
+     * Queries rejected by the saturated executor, including those run on the caller thread afterwards.
+     */
+    private final long rejectedCount;
+
+    /**
+     * Queries completed, successfully or not.
+     */
+    private final long completedCount;
+}
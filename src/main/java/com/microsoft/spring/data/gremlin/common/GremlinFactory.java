@@ -31,6 +31,10 @@ public class GremlinFactory {
         this.gremlinConfig = gremlinConfig;
     }
 
+    public GremlinConfig getGremlinConfig() {
+        return this.gremlinConfig;
+    }
+
     private void trackTelemetryCustomEvent() {
         this.telemetryTracker.trackEvent(getClass().getSimpleName());
     }
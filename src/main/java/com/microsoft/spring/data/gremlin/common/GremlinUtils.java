@@ -19,6 +19,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.lang.NonNull;
 import org.springframework.util.ReflectionUtils;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -52,11 +53,13 @@ public class GremlinUtils {
         final T instance;
 
         try {
-            instance = type.newInstance();
+            instance = type.getDeclaredConstructor().newInstance();
         } catch (IllegalAccessException e) {
             throw new IllegalArgumentException("can not access type constructor", e);
-        } catch (InstantiationException e) {
+        } catch (InstantiationException | InvocationTargetException e) {
             throw new IllegalArgumentException("failed to create instance of given type", e);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("type should have a no-arg constructor", e);
         }
 
         return instance;
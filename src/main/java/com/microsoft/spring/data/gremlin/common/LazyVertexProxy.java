@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Proxy of a vertex domain known by id only, which is loaded on the first method call and then delegated to.
+ * The id field of the proxy is set, other fields are only reachable through methods.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LazyVertexProxy {
+
+    public static boolean isProxyable(@NonNull Class<?> type) {
+        return !type.isPrimitive() && !type.isInterface() && !type.isArray() && !Modifier.isFinal(type.getModifiers());
+    }
+
+    /**
+     * @param type   the vertex domain class, must be proxyable.
+     * @param id     the vertex id.
+     * @param loader finds the vertex on first access, null if not found.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T create(@NonNull Class<T> type, @NonNull Object id, @NonNull Supplier<T> loader) {
+        final ProxyFactory factory = new ProxyFactory();
+
+        factory.setTargetSource(new LazyVertexTargetSource<>(type, id, loader));
+        factory.setProxyTargetClass(true);
+
+        final T proxy = (T) factory.getProxy(type.getClassLoader());
+        final Field idField = GremlinUtils.getIdField(type);
+
+        ReflectionUtils.makeAccessible(idField);
+        ReflectionUtils.setField(idField, proxy, DefaultConversionService.getSharedInstance()
+            .convert(id, idField.getType()));
+
+        return proxy;
+    }
+
+    public static boolean isProxy(@Nullable Object domain) {
+        return domain instanceof Advised && ((Advised) domain).getTargetSource() instanceof LazyVertexTargetSource;
+    }
+
+    /**
+     * @return the vertex id of the proxy, without loading it.
+     */
+    public static Object getId(@NonNull Object proxy) {
+        return getTargetSource(proxy).id;
+    }
+
+    public static boolean isLoaded(@NonNull Object proxy) {
+        return getTargetSource(proxy).isInitialized();
+    }
+
+    /**
+     * @return the vertex behind the given proxy, which is loaded if not yet, or else the given domain itself.
+     */
+    public static Object unwrap(@NonNull Object domain) {
+        if (!isProxy(domain)) {
+            return domain;
+        }
+
+        try {
+            return getTargetSource(domain).getTarget();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GremlinQueryException("failed to load vertex " + getId(domain), e);
+        }
+    }
+
+    private static LazyVertexTargetSource<?> getTargetSource(@NonNull Object proxy) {
+        final TargetSource source = ((Advised) proxy).getTargetSource();
+
+        if (!(source instanceof LazyVertexTargetSource)) {
+            throw new IllegalArgumentException("should be a lazy vertex proxy");
+        }
+
+        return (LazyVertexTargetSource<?>) source;
+    }
+
+    private static final class LazyVertexTargetSource<T> extends AbstractLazyCreationTargetSource {
+
+        private final Class<T> type;
+
+        private final Object id;
+
+        private final Supplier<T> loader;
+
+        private LazyVertexTargetSource(@NonNull Class<T> type, @NonNull Object id, @NonNull Supplier<T> loader) {
+            this.type = type;
+            this.id = id;
+            this.loader = loader;
+        }
+
+        @Override
+        public Class<?> getTargetClass() {
+            return this.type;
+        }
+
+        @Override
+        protected Object createObject() {
+            final T vertex = this.loader.get();
+
+            if (vertex == null) {
+                throw new GremlinQueryException("vertex " + this.id + " of " + this.type.getName() + " not found");
+            }
+
+            return vertex;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import lombok.Builder;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * {@link GremlinDomainCache} evicting the least recently used entries once the size or weight bound is exceeded.
+ * Expired entries are dropped when looked up, or when they are the least recently used ones on insertion.
+ */
+public class LruGremlinDomainCache implements GremlinDomainCache {
+
+    private final long maxSize;
+
+    private final long maxWeight;
+
+    private final ToLongFunction<Object> weigher;
+
+    private final long expireAfterWriteNanos;
+
+    private final long expireAfterAccessNanos;
+
+    private final LongSupplier ticker;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    /**
+     * @param maxSize           the max number of entries, unbounded when not positive.
+     * @param maxWeight         the max total weight of entries, unbounded when not positive.
+     * @param weigher           the weight of a value, each value weighs 1 when null.
+     * @param expireAfterWrite  milliseconds an entry lives after being put, never expires when not positive.
+     * @param expireAfterAccess milliseconds an entry lives after its last lookup, never expires when not positive.
+     * @param ticker            the current time in nanoseconds, {@link System#nanoTime()} when null.
+     */
+    @Builder
+    public LruGremlinDomainCache(long maxSize, long maxWeight, @Nullable ToLongFunction<Object> weigher,
+                                 long expireAfterWrite, long expireAfterAccess, @Nullable LongSupplier ticker) {
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher == null ? value -> 1L : weigher;
+        this.expireAfterWriteNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(expireAfterWrite, 0));
+        this.expireAfterAccessNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(expireAfterAccess, 0));
+        this.ticker = ticker == null ? System::nanoTime : ticker;
+    }
+
+    @Override
+    @Nullable
+    public synchronized Object get(@NonNull Object id) {
+        final Entry entry = this.entries.get(id);
+
+        if (entry == null) {
+            this.missCount++;
+
+            return null;
+        }
+
+        final long now = this.ticker.getAsLong();
+
+        if (this.isExpired(entry, now)) {
+            this.remove(id, entry);
+            this.evictionCount++;
+            this.missCount++;
+
+            return null;
+        }
+
+        entry.accessTime = now;
+        this.hitCount++;
+
+        return entry.value;
+    }
+
+    @Override
+    public synchronized void put(@NonNull Object id, @NonNull Object value) {
+        final long now = this.ticker.getAsLong();
+        final long valueWeight = this.weigher.applyAsLong(value);
+        final Entry previous = this.entries.remove(id);
+
+        if (previous != null) {
+            this.weight -= previous.weight;
+        }
+
+        if (this.maxWeight > 0 && valueWeight > this.maxWeight) {
+            this.evictionCount++; // Would evict every other entry and still not fit.
+
+            return;
+        }
+
+        this.entries.put(id, new Entry(value, valueWeight, now));
+        this.weight += valueWeight;
+
+        this.evictEldest(now);
+    }
+
+    @Override
+    public synchronized void evict(@NonNull Object id) {
+        final Entry entry = this.entries.remove(id);
+
+        if (entry != null) {
+            this.weight -= entry.weight;
+        }
+    }
+
+    @Override
+    public synchronized void evictAll(@NonNull Collection<?> ids) {
+        ids.forEach(this::evict);
+    }
+
+    @Override
+    public synchronized void clear() {
+        this.entries.clear();
+        this.weight = 0;
+    }
+
+    @Override
+    public synchronized long size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public synchronized GremlinDomainCacheStats getStats() {
+        return new GremlinDomainCacheStats(this.hitCount, this.missCount, this.evictionCount, this.entries.size());
+    }
+
+    private boolean isExpired(@NonNull Entry entry, long now) {
+        return (this.expireAfterWriteNanos > 0 && now - entry.writeTime >= this.expireAfterWriteNanos)
+            || (this.expireAfterAccessNanos > 0 && now - entry.accessTime >= this.expireAfterAccessNanos);
+    }
+
+    private boolean isOverBound() {
+        return (this.maxSize > 0 && this.entries.size() > this.maxSize)
+            || (this.maxWeight > 0 && this.weight > this.maxWeight);
+    }
+
+    /**
+     * Drop the least recently used entries while they are expired or the cache exceeds its bounds.
+     */
+    private void evictEldest(long now) {
+        final Iterator<Map.Entry<Object, Entry>> iterator = this.entries.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            final Entry eldest = iterator.next().getValue();
+
+            if (!this.isOverBound() && !this.isExpired(eldest, now)) {
+                return;
+            }
+
+            iterator.remove();
+            this.weight -= eldest.weight;
+            this.evictionCount++;
+        }
+    }
+
+    private void remove(@NonNull Object id, @NonNull Entry entry) {
+        this.entries.remove(id);
+        this.weight -= entry.weight;
+    }
+
+    private static final class Entry {
+
+        private final Object value;
+
+        private final long weight;
+
+        private final long writeTime;
+
+        private long accessTime;
+
+        private Entry(@NonNull Object value, long weight, long writeTime) {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = writeTime;
+            this.accessTime = writeTime;
+        }
+    }
+}
@@ -6,17 +6,39 @@
 package com.microsoft.spring.data.gremlin.config;
 
 import com.microsoft.spring.data.gremlin.common.GremlinConfig;
+import com.microsoft.spring.data.gremlin.common.GremlinDomainCacheFactory;
 import com.microsoft.spring.data.gremlin.common.GremlinFactory;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.query.GremlinAsyncTemplate;
 import com.microsoft.spring.data.gremlin.query.GremlinTemplate;
 import com.microsoft.spring.data.gremlin.telemetry.EmptyTracker;
 import com.microsoft.spring.data.gremlin.telemetry.TelemetryTracker;
 import org.springframework.context.annotation.Bean;
+import org.springframework.lang.Nullable;
+import java.util.concurrent.Executor;
 
 public abstract class AbstractGremlinConfiguration extends GremlinConfigurationSupport {
 
     public abstract GremlinConfig getGremlinConfig();
 
+    /**
+     * Override to run the queries of {@link GremlinTemplate} on an executor managed by the application,
+     * a bounded pool is created from {@link GremlinConfig} when null is returned.
+     */
+    @Nullable
+    public Executor getGremlinExecutor() {
+        return null;
+    }
+
+    /**
+     * Override to cache the domains of each class differently, or with another cache library, the caches are
+     * bounded as described by {@link GremlinConfig} when null is returned.
+     */
+    @Nullable
+    public GremlinDomainCacheFactory getDomainCacheFactory() {
+        return null;
+    }
+
     @Bean
     public TelemetryTracker getTelemetryTracker() {
         if (getGremlinConfig().isTelemetryAllowed()) {
@@ -38,6 +60,18 @@ public abstract class AbstractGremlinConfiguration extends GremlinConfigurationS
 
     @Bean
     public GremlinTemplate gremlinTemplate(GremlinFactory factory) throws ClassNotFoundException {
-        return new GremlinTemplate(factory, mappingGremlinConverter());
+        final GremlinTemplate template = new GremlinTemplate(factory, mappingGremlinConverter(), getGremlinExecutor());
+        final GremlinDomainCacheFactory domainCacheFactory = getDomainCacheFactory();
+
+        if (domainCacheFactory != null) {
+            template.setDomainCacheFactory(domainCacheFactory);
+        }
+
+        return template;
+    }
+
+    @Bean
+    public GremlinAsyncTemplate gremlinAsyncTemplate(GremlinTemplate template) {
+        return new GremlinAsyncTemplate(template);
     }
 }
@@ -0,0 +1,21 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.config;
+
+import com.microsoft.spring.data.gremlin.query.GremlinAsyncTemplate;
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinTemplate;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Configuration of the reactive repositories, which requires reactor-core on the classpath.
+ */
+public abstract class AbstractReactiveGremlinConfiguration extends AbstractGremlinConfiguration {
+
+    @Bean
+    public ReactiveGremlinTemplate reactiveGremlinTemplate(GremlinAsyncTemplate asyncTemplate) {
+        return new ReactiveGremlinTemplate(asyncTemplate);
+    }
+}
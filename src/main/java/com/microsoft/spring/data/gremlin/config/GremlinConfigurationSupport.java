@@ -6,6 +6,7 @@
 package com.microsoft.spring.data.gremlin.config;
 
 import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
@@ -65,8 +66,10 @@ public abstract class GremlinConfigurationSupport {
     @Bean
     public GremlinMappingContext gremlinMappingContext() throws ClassNotFoundException {
         final GremlinMappingContext context = new GremlinMappingContext();
+        final Set<Class<?>> entitySet = this.getInitialEntitySet();
 
-        context.setInitialEntitySet(this.getInitialEntitySet());
+        context.setInitialEntitySet(entitySet);
+        GremlinEntityInformation.registerAll(entitySet);
 
         return context;
     }
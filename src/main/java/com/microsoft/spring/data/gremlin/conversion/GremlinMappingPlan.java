@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion;
+
+import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
+import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
+import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
+import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentProperty;
+import lombok.Getter;
+import org.apache.tinkerpop.shaded.jackson.databind.JavaType;
+import org.apache.tinkerpop.shaded.jackson.databind.type.TypeFactory;
+import org.springframework.data.annotation.Id;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PROPERTY_CLASSNAME;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_ID;
+
+/**
+ * The persistent fields of one domain class with their roles and read types, computed once per class, see
+ * {@link MappingGremlinConverter#getMappingPlan(Class)}. Reading and writing a domain walks the plan instead of
+ * scanning the fields and their annotations.
+ */
+@Getter
+public class GremlinMappingPlan {
+
+    private final Class<?> domainClass;
+
+    private final GremlinPersistentEntity<?> persistentEntity;
+
+    /**
+     * The fields having a persistent property, in the order of {@link MappingGremlinConverter#getAllFields(Class)}.
+     */
+    private final List<PropertyPlan> properties;
+
+    /**
+     * The only {@link EdgeFrom} field, or null if none or several.
+     */
+    @Nullable
+    private final PropertyPlan edgeFrom;
+
+    /**
+     * The only {@link EdgeTo} field, or null if none or several.
+     */
+    @Nullable
+    private final PropertyPlan edgeTo;
+
+    /**
+     * True if a field without persistent property uses the pre-defined class name property.
+     */
+    private final boolean transientClassNameField;
+
+    public GremlinMappingPlan(@NonNull GremlinPersistentEntity<?> persistentEntity, @NonNull Field[] fields) {
+        final List<PropertyPlan> properties = new ArrayList<>(fields.length);
+        final List<PropertyPlan> edgeFroms = new ArrayList<>(1);
+        final List<PropertyPlan> edgeTos = new ArrayList<>(1);
+        boolean transientClassNameField = false;
+
+        for (final Field field : fields) {
+            final GremlinPersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
+
+            if (property == null) {
+                transientClassNameField |= field.getName().equals(GREMLIN_PROPERTY_CLASSNAME);
+                continue;
+            }
+
+            final PropertyPlan plan = new PropertyPlan(field, property);
+
+            if (plan.isEdgeFrom()) {
+                edgeFroms.add(plan);
+            } else if (plan.isEdgeTo()) {
+                edgeTos.add(plan);
+            }
+
+            properties.add(plan);
+        }
+
+        this.domainClass = persistentEntity.getType();
+        this.persistentEntity = persistentEntity;
+        this.properties = Collections.unmodifiableList(properties);
+        this.edgeFrom = edgeFroms.size() == 1 ? edgeFroms.get(0) : null;
+        this.edgeTo = edgeTos.size() == 1 ? edgeTos.get(0) : null;
+        this.transientClassNameField = transientClassNameField;
+    }
+
+    @Getter
+    public static final class PropertyPlan {
+
+        private final Field field;
+
+        private final String name;
+
+        private final GremlinPersistentProperty property;
+
+        private final Class<?> type;
+
+        /**
+         * The type to read the json value of the property into.
+         */
+        private final JavaType javaType;
+
+        private final boolean id;
+
+        private final boolean edgeFrom;
+
+        private final boolean edgeTo;
+
+        private final boolean className;
+
+        private PropertyPlan(@NonNull Field field, @NonNull GremlinPersistentProperty property) {
+            this.field = field;
+            this.name = field.getName();
+            this.property = property;
+            this.type = property.getTypeInformation().getType();
+            this.javaType = TypeFactory.defaultInstance().constructType(property.getType());
+            this.id = this.name.equals(PROPERTY_ID) || field.getAnnotation(Id.class) != null;
+            this.edgeFrom = field.getAnnotation(EdgeFrom.class) != null;
+            this.edgeTo = field.getAnnotation(EdgeTo.class) != null;
+            this.className = this.name.equals(GREMLIN_PROPERTY_CLASSNAME);
+        }
+    }
+}
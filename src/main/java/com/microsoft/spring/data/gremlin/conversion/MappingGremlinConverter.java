@@ -7,6 +7,7 @@ package com.microsoft.spring.data.gremlin.conversion;
 
 
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.common.LazyVertexProxy;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentProperty;
@@ -16,13 +17,19 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.support.GenericConversionService;
 import org.springframework.data.convert.EntityConverter;
+import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MappingGremlinConverter
         implements EntityConverter<GremlinPersistentEntity<?>, GremlinPersistentProperty, Object, GremlinSource>,
@@ -31,6 +38,16 @@ public class MappingGremlinConverter
     protected final MappingContext<? extends GremlinPersistentEntity<?>, GremlinPersistentProperty> mappingContext;
     protected GenericConversionService conversionService;
     private ApplicationContext applicationContext;
+    private final Map<Class<?>, GremlinMappingPlan> mappingPlans = new ConcurrentHashMap<>();
+    private final EntityInstantiators instantiators = new EntityInstantiators();
+
+    private static final ParameterValueProvider<GremlinPersistentProperty> NO_PARAMETERS =
+        new ParameterValueProvider<GremlinPersistentProperty>() {
+            @Override
+            public <T> T getParameterValue(@NonNull Parameter<T, GremlinPersistentProperty> parameter) {
+                throw new IllegalStateException("no-arg constructor should not take parameter " + parameter.getName());
+            }
+        };
 
     public MappingGremlinConverter(
             MappingContext<? extends GremlinPersistentEntity<?>, GremlinPersistentProperty> context) {
@@ -67,7 +84,7 @@ public class MappingGremlinConverter
 
     @Override
     public void write(@NonNull Object domain, @NonNull GremlinSource source) {
-        source.doGremlinSourceWrite(domain, this);
+        source.doGremlinSourceWrite(LazyVertexProxy.unwrap(domain), this);
     }
 
     public ConvertingPropertyAccessor getPropertyAccessor(@NonNull Object domain) {
@@ -100,6 +117,30 @@ public class MappingGremlinConverter
     }
 
 
+    /**
+     * Create an empty domain with its no-arg constructor, through the instantiator class generated once per entity.
+     * The persistent properties of the domain are accessed through generated accessors as well, see
+     * {@link #getPropertyAccessor(Object)}.
+     */
+    public <T> T createInstance(@NonNull Class<T> domainClass) {
+        final GremlinPersistentEntity<?> entity = this.getPersistentEntity(domainClass);
+        final PreferredConstructor<?, GremlinPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+        if (constructor == null || !constructor.isNoArgConstructor()) {
+            return GremlinUtils.createInstance(domainClass);
+        }
+
+        return domainClass.cast(this.instantiators.getInstantiatorFor(entity).createInstance(entity, NO_PARAMETERS));
+    }
+
+    /**
+     * Get the mapping plan of given domain class, computed on first use.
+     */
+    public GremlinMappingPlan getMappingPlan(@NonNull Class<?> domainClass) {
+        return this.mappingPlans.computeIfAbsent(domainClass,
+            type -> new GremlinMappingPlan(this.getPersistentEntity(type), this.getAllFields(type)));
+    }
+
     /**
      * This method returns all persistent {@link Field} instances for a given domain
      * class.
@@ -6,10 +6,10 @@
 package com.microsoft.spring.data.gremlin.conversion.result;
 
 
-import com.microsoft.spring.data.gremlin.common.GremlinUtils;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -67,7 +67,7 @@ public class GremlinResultEdgeReader extends AbstractGremlinResultReader impleme
 
         final String className = source.getProperties().get(GREMLIN_PROPERTY_CLASSNAME).toString();
 
-        sourceEdge.setIdField(GremlinUtils.getIdField(GremlinUtils.toEntityClass(className)));
+        sourceEdge.setIdField(GremlinEntityInformation.getByClassName(className).getIdField());
         sourceEdge.setId(map.get(PROPERTY_ID));
         sourceEdge.setLabel(map.get(PROPERTY_LABEL).toString());
         sourceEdge.setVertexIdFrom(map.get(PROPERTY_OUTV));
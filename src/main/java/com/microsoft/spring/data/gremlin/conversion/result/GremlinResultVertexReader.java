@@ -6,10 +6,10 @@
 package com.microsoft.spring.data.gremlin.conversion.result;
 
 
-import com.microsoft.spring.data.gremlin.common.GremlinUtils;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
@@ -59,7 +59,7 @@ public class GremlinResultVertexReader extends AbstractGremlinResultReader imple
 
         final String className = source.getProperties().get(GREMLIN_PROPERTY_CLASSNAME).toString();
 
-        source.setIdField(GremlinUtils.getIdField(GremlinUtils.toEntityClass(className)));
+        source.setIdField(GremlinEntityInformation.getByClassName(className).getIdField());
         source.setId(map.get(PROPERTY_ID));
         source.setLabel(map.get(PROPERTY_LABEL).toString());
     }
@@ -50,6 +50,79 @@ public abstract class AbstractGremlinScriptLiteral {
         throw new GremlinInvalidEntityIdFieldException("Only String/Integer/Long of id is supported");
     }
 
+    private static Object toScriptId(@NonNull Object id) {
+        if (id instanceof String || id instanceof Integer || id instanceof Long) {
+            return id;
+        }
+
+        throw new GremlinInvalidEntityIdFieldException("Only String/Integer/Long of id is supported");
+    }
+
+    /**
+     * Convert the value to what the literal generators would write into the script, so a bound value is
+     * stored and compared exactly the same way as its inline counterpart.
+     */
+    public static Object toScriptValue(Object value) {
+        if (value instanceof Integer || value instanceof Boolean
+                || value instanceof String || value instanceof Double) {
+            return value;
+        } else if (value instanceof Date) {
+            return GremlinUtils.timeToMilliSeconds(value);
+        }
+
+        try {
+            return GremlinUtils.getObjectMapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new GremlinUnexpectedEntityTypeException("Failed to write object to String", e);
+        }
+    }
+
+    protected static String generateEntityWithRequiredId(@NonNull Object id, GremlinEntityType type,
+                                                         @NonNull GremlinScriptBindings bindings) {
+        if (!bindings.isParameterized()) {
+            return generateEntityWithRequiredId(id, type);
+        }
+
+        Assert.isTrue(type == GremlinEntityType.EDGE || type == GremlinEntityType.VERTEX, "should be edge/vertex type");
+
+        final String prefix = (type == GremlinEntityType.VERTEX) ? "V" : "E";
+
+        return prefix + String.format("(%s)", bindings.bind(toScriptId(id)));
+    }
+
+    private static String toScriptIdLiteral(@NonNull Object id) {
+        if (id instanceof String) {
+            return String.format("'%s'", id);
+        } else if (id instanceof Integer || id instanceof Long) {
+            return id.toString();
+        }
+
+        throw new GremlinInvalidEntityIdFieldException("Only String/Integer/Long of id is supported");
+    }
+
+    protected static String generateEntityWithRequiredIds(@NonNull List<Object> ids, GremlinEntityType type,
+                                                          @NonNull GremlinScriptBindings bindings) {
+        Assert.isTrue(type == GremlinEntityType.EDGE || type == GremlinEntityType.VERTEX, "should be edge/vertex type");
+
+        final String prefix = (type == GremlinEntityType.VERTEX) ? "V" : "E";
+        final List<String> scriptIds = new ArrayList<>(ids.size());
+
+        for (final Object id : ids) {
+            scriptIds.add(bindings.isParameterized() ? bindings.bind(toScriptId(id)) : toScriptIdLiteral(id));
+        }
+
+        return prefix + String.format("(%s)", String.join(", ", scriptIds));
+    }
+
+    protected static String generatePropertyWithRequiredId(@NonNull Object id,
+                                                           @NonNull GremlinScriptBindings bindings) {
+        if (!bindings.isParameterized()) {
+            return generatePropertyWithRequiredId(id);
+        }
+
+        return String.format("property(id, %s)", bindings.bind(toScriptId(id)));
+    }
+
     protected static String generateAsWithAlias(@NonNull String alias) {
         return String.format("as('%s')", alias);
     }
@@ -62,6 +135,13 @@ public abstract class AbstractGremlinScriptLiteral {
         return prefix + String.format("('%s')", label);
     }
 
+    /**
+     * The entity is created only when the traversal before it, folded to a list, finds nothing.
+     */
+    protected static String generateCoalesceUnfold(@NonNull List<String> createScripts) {
+        return String.format(GREMLIN_PRIMITIVE_COALESCE_UNFOLD, String.join(GREMLIN_PRIMITIVE_INVOKE, createScripts));
+    }
+
     protected static List<String> completeScript(@NonNull List<String> scriptList) {
         return Collections.singletonList(String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList));
     }
@@ -96,6 +176,46 @@ public abstract class AbstractGremlinScriptLiteral {
         }
     }
 
+    public static String generateHasId(@NonNull Object id, @NonNull GremlinScriptBindings bindings) {
+        if (!bindings.isParameterized()) {
+            return generateHasId(id);
+        }
+
+        return String.format("hasId(%s)", bindings.bind(toScriptId(id)));
+    }
+
+    public static String generateHasId(@NonNull Object id, @NonNull Field idFiled,
+                                       @NonNull GremlinScriptBindings bindings) {
+        if (!bindings.isParameterized()) {
+            return generateHasId(id, idFiled);
+        } else if (idFiled.isAnnotationPresent(GeneratedValue.class) && id instanceof Integer) {
+            return generateHasId(Long.valueOf((Integer) id), bindings); // Generated id is Long in gremlin server.
+        }
+
+        return generateHasId(id, bindings);
+    }
+
+    public static String generateHasIdWithin(@NonNull List<Object> ids, @NonNull Field idFiled,
+                                             @NonNull GremlinScriptBindings bindings) {
+        Assert.notEmpty(ids, "ids should not be empty");
+
+        final boolean generated = idFiled.isAnnotationPresent(GeneratedValue.class);
+        final List<String> scriptIds = new ArrayList<>(ids.size());
+
+        for (final Object id : ids) {
+            if (bindings.isParameterized()) {
+                // Generated id is Long in gremlin server.
+                scriptIds.add(bindings.bind(generated && id instanceof Integer ? Long.valueOf((Integer) id) :
+                    toScriptId(id)));
+            } else if (generated && !(id instanceof String)) {
+                scriptIds.add(toScriptIdLiteral(id) + "L");
+            } else {
+                scriptIds.add(toScriptIdLiteral(id));
+            }
+        }
+
+        return String.format("hasId(within(%s))", String.join(", ", scriptIds));
+    }
 
     protected static String generateHasShared(List<String> hasInputs) {
         final int listSize = hasInputs.size();
@@ -162,6 +282,14 @@ public abstract class AbstractGremlinScriptLiteral {
         }
     }
 
+    protected String generateProperty(@NonNull String name, Object value, @NonNull GremlinScriptBindings bindings) {
+        if (!bindings.isParameterized()) {
+            return generateProperty(name, value);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_PROPERTY_BINDING, name, bindings.bind(toScriptValue(value)));
+    }
+
     private static String generateUpdateProperty(@NonNull String name, @NonNull String value) {
         return String.format(GREMLIN_PRIMITIVE_UPDATE_PROPERTY_STRING, name, value);
     }
@@ -206,6 +334,15 @@ public abstract class AbstractGremlinScriptLiteral {
         }
     }
 
+    protected String generateUpdateProperty(@NonNull String name, Object value,
+                                            @NonNull GremlinScriptBindings bindings) {
+        if (!bindings.isParameterized()) {
+            return generateUpdateProperty(name, value);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_UPDATE_PROPERTY_BINDING, name, bindings.bind(toScriptValue(value)));
+    }
+
     public List<String> generateProperties(@NonNull final Map<String, Object> properties) {
         final List<String> scripts = new ArrayList<>();
 
@@ -223,6 +360,25 @@ public abstract class AbstractGremlinScriptLiteral {
         return scripts;
     }
 
+    public List<String> generateProperties(@NonNull final Map<String, Object> properties,
+                                           @NonNull GremlinScriptBindings bindings) {
+        final List<String> scripts = new ArrayList<>();
+
+        properties.entrySet().stream().filter(e -> e.getValue() != null)
+                .forEach(e -> scripts.add(generateProperty(e.getKey(), e.getValue(), bindings)));
+
+        return scripts;
+    }
+
+    public List<String> generateUpdateProperties(@NonNull final Map<String, Object> properties,
+                                                 @NonNull GremlinScriptBindings bindings) {
+        final List<String> scripts = new ArrayList<>();
+
+        properties.forEach((name, value) -> scripts.add(generateUpdateProperty(name, value, bindings)));
+
+        return scripts;
+    }
+
     private static String generateHas(@NonNull String name, @NonNull Integer value) {
         return String.format(GREMLIN_PRIMITIVE_HAS_NUMBER, name, value);
     }
@@ -277,4 +433,13 @@ public abstract class AbstractGremlinScriptLiteral {
             return hasScript;
         }
     }
+
+    public static String generateHas(@NonNull String name, @NonNull Object value,
+                                     @NonNull GremlinScriptBindings bindings) {
+        if (!bindings.isParameterized()) {
+            return generateHas(name, value);
+        }
+
+        return String.format(GREMLIN_PRIMITIVE_HAS_BINDING, name, bindings.bind(toScriptValue(value)));
+    }
 }
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.conversion.script;
+
+
+import org.springframework.lang.NonNull;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * Hold the values referenced by generated scripts. When parameterized, values are replaced by binding
+ * names (p0, p1, ...) in the script text and submitted alongside it, so the script only depends on the
+ * domain class and the operation and the server can reuse its compiled form. When inline, values are
+ * written into the script as literals and no binding is collected.
+ */
+public class GremlinScriptBindings {
+
+    private static final String BINDING_PREFIX = "p";
+
+    @Getter
+    private final boolean parameterized;
+
+    private final Map<String, Object> bindings = new LinkedHashMap<>();
+
+    private GremlinScriptBindings(boolean parameterized) {
+        this.parameterized = parameterized;
+    }
+
+    public static GremlinScriptBindings inline() {
+        return new GremlinScriptBindings(false);
+    }
+
+    public static GremlinScriptBindings parameterized() {
+        return new GremlinScriptBindings(true);
+    }
+
+    /**
+     * Register the value and return the binding name to be used in place of it in the script.
+     */
+    public String bind(@NonNull Object value) {
+        final String name = BINDING_PREFIX + this.bindings.size();
+
+        this.bindings.put(name, value);
+
+        return name;
+    }
+
+    public Map<String, Object> getBindings() {
+        return Collections.unmodifiableMap(this.bindings);
+    }
+}
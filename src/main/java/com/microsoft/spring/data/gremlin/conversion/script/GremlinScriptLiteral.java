@@ -53,4 +53,69 @@ public interface GremlinScriptLiteral {
      * Generate the Count query from Source (Vertex, Edge)
      */
     List<String>  generateCountScript(GremlinSource source);
+
+    /**
+     * Generate the query to update the entity of source (Vertex, Edge), or create it if it doesn't exist yet.
+     */
+    List<String> generateUpsertScript(GremlinSource source);
+
+    /**
+     * Generate the query counting at most one entity of the source id (Vertex, Edge), without fetching it.
+     */
+    List<String> generateExistsByIdScript(GremlinSource source);
+
+    /**
+     * Generate the query finding all the entities of the given ids in one traversal (Vertex, Edge).
+     */
+    List<String> generateFindAllByIdScript(GremlinSource source, List<Object> ids);
+
+    /**
+     * Generate the query dropping all the entities of the given ids in one traversal (Vertex, Edge).
+     */
+    List<String> generateDeleteAllByIdScript(GremlinSource source, List<Object> ids);
+
+    /**
+     * Generate the insert query from source (Vertex, Edge or Graph), values go to the given bindings.
+     */
+    List<String> generateInsertScript(GremlinSource source, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the findById query from source (Vertex, Edge), values go to the given bindings.
+     */
+    List<String> generateFindByIdScript(GremlinSource source, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the update query from source (Vertex, Edge or Graph), values go to the given bindings.
+     */
+    List<String> generateUpdateScript(GremlinSource source, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the findAll query from source (Vertex, Edge), values go to the given bindings.
+     */
+    List<String> generateFindAllScript(GremlinSource source, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the DeleteById query from source (Vertex, Edge or Graph), values go to the given bindings.
+     */
+    List<String> generateDeleteByIdScript(GremlinSource source, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the upsert query from source (Vertex, Edge), values go to the given bindings.
+     */
+    List<String> generateUpsertScript(GremlinSource source, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the existsById query from source (Vertex, Edge), values go to the given bindings.
+     */
+    List<String> generateExistsByIdScript(GremlinSource source, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the findAllById query from source (Vertex, Edge), values go to the given bindings.
+     */
+    List<String> generateFindAllByIdScript(GremlinSource source, List<Object> ids, GremlinScriptBindings bindings);
+
+    /**
+     * Generate the deleteAllById query from source (Vertex, Edge), values go to the given bindings.
+     */
+    List<String> generateDeleteAllByIdScript(GremlinSource source, List<Object> ids, GremlinScriptBindings bindings);
 }
@@ -28,14 +28,25 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
     private static final String FROM_ALIAS = "from";
     private static final String TO_ALIAS = "to";
+    private static final String BATCH_VERTEX_ALIAS_PREFIX = "n";
+    private static final String BATCH_EDGE_ALIAS_PREFIX = "e";
 
     private String generateEdgeDirection(@NonNull String from, @NonNull String to) {
         return String.format("from('%s').to('%s')", from, to);
     }
 
+    private String generateEdgeEndpoints(@NonNull String fromVertex, @NonNull String toVertex) {
+        return String.format("from(%s).to(%s)", fromVertex, toVertex);
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> generateInsertScript(@NonNull GremlinSource source) {
+        return this.generateInsertScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> generateInsertScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
@@ -44,16 +55,16 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         final List<String> scriptList = new ArrayList<>();
 
         scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                            // g
-        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdFrom(), VERTEX)); // V(id)
+        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdFrom(), VERTEX, bindings)); // V(id)
         scriptList.add(generateAsWithAlias(FROM_ALIAS));                                    // from('from')
-        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdTo(), VERTEX));   // V(id)
+        scriptList.add(generateEntityWithRequiredId(sourceEdge.getVertexIdTo(), VERTEX, bindings));   // V(id)
         scriptList.add(generateAsWithAlias(TO_ALIAS));                                      // to('to')
         scriptList.add(generateAddEntityWithLabel(sourceEdge.getLabel(), EDGE));            // addE(label)
         scriptList.add(generateEdgeDirection(FROM_ALIAS, TO_ALIAS));                        // from('from').to('to')
 
-        source.getId().ifPresent(id -> scriptList.add(generatePropertyWithRequiredId(id))); // property(id, xxx)
+        source.getId().ifPresent(id -> scriptList.add(generatePropertyWithRequiredId(id, bindings))); // property(id)
 
-        scriptList.addAll(generateProperties(source.getProperties()));
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
 
         return completeScript(scriptList);
     }
@@ -81,24 +92,35 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
     @Override
     public List<String> generateFindByIdScript(@NonNull GremlinSource source) {
+        return this.generateFindByIdScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateFindByIdScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
+        final Object id = source.getId().get();
         final List<String> scriptList = Arrays.asList(
                 GREMLIN_PRIMITIVE_GRAPH,                                 // g
                 GREMLIN_PRIMITIVE_EDGE_ALL,                              // E()
-                generateHasId(source.getId().get(), source.getIdField()) // hasId(xxx)
+                generateHasId(id, source.getIdField(), bindings)         // hasId(xxx)
         );
 
         return completeScript(scriptList);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> generateUpdateScript(@NonNull GremlinSource source) {
+        return this.generateUpdateScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> generateUpdateScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
@@ -107,16 +129,128 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
+        final Object id = source.getId().get();
+
         scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                  // g
-        scriptList.add(generateEntityWithRequiredId(source.getId().get(), EDGE)); // E(id)
+        scriptList.add(generateEntityWithRequiredId(id, EDGE, bindings));         // E(id)
+
+        scriptList.addAll(generateUpdateProperties(source.getChangedProperties(), bindings));
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateFindAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids) {
+        return this.generateFindAllByIdScript(source, ids, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateFindAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids,
+                                                  @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                 // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                              // E()
+                generateHasIdWithin(ids, source.getIdField(), bindings)  // hasId(within(xxx, ...))
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateDeleteAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids) {
+        return this.generateDeleteAllByIdScript(source, ids, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateDeleteAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids,
+                                                    @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                 // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                              // E()
+                generateHasIdWithin(ids, source.getIdField(), bindings), // hasId(within(xxx, ...))
+                GREMLIN_PRIMITIVE_DROP                                   // drop()
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source) {
+        return this.generateExistsByIdScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source,
+                                                 @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
+        final Object id = source.getId().get();
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                 // g
+                GREMLIN_PRIMITIVE_EDGE_ALL,                              // E()
+                generateHasId(id, source.getIdField(), bindings),        // hasId(xxx)
+                GREMLIN_PRIMITIVE_LIMIT_ONE,                             // limit(1)
+                GREMLIN_PRIMITIVE_COUNT                                  // count()
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        return this.generateUpsertScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> generateUpsertScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
-        scriptList.addAll(generateUpdateProperties(source.getProperties()));
+        final GremlinSourceEdge sourceEdge = (GremlinSourceEdge) source;
+        final Object id = source.getId().get();
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                    // g
+        scriptList.add(GREMLIN_PRIMITIVE_EDGE_ALL);                                 // E()
+        scriptList.add(generateHasId(id, source.getIdField(), bindings));           // hasId(xxx)
+        scriptList.add(GREMLIN_PRIMITIVE_FOLD);                                     // fold()
+        // coalesce(unfold(), ...)
+        scriptList.add(generateCoalesceUnfold(Arrays.asList(
+                generateAddEntityWithLabel(sourceEdge.getLabel(), EDGE),            // addE(label)
+                // from(V(id)).to(V(id))
+                generateEdgeEndpoints(
+                        generateEntityWithRequiredId(sourceEdge.getVertexIdFrom(), VERTEX, bindings),
+                        generateEntityWithRequiredId(sourceEdge.getVertexIdTo(), VERTEX, bindings)),
+                generatePropertyWithRequiredId(id, bindings)                        // property(id)
+        )));
+        scriptList.addAll(generateUpdateProperties(source.getProperties(), bindings));
 
         return completeScript(scriptList);
     }
 
     @Override
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
+        return this.generateFindAllScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateFindAllScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
@@ -124,11 +258,12 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
         final String className = source.getProperties().get(GREMLIN_PROPERTY_CLASSNAME).toString();
         Assert.notNull(className, "GremlinSource should contain predefined className");
 
+        final String hasClassname = generateHas(GREMLIN_PROPERTY_CLASSNAME, className, bindings);
         final List<String> scriptList = Arrays.asList(
                 GREMLIN_PRIMITIVE_GRAPH,                           // g
                 GREMLIN_PRIMITIVE_EDGE_ALL,                        // E()
                 generateHasLabel(source.getLabel()),               // has(label, 'label')
-                generateHas(GREMLIN_PROPERTY_CLASSNAME, className) // has(_classname, 'xxxxxx')
+                hasClassname                                       // has(_classname, 'xxxxxx')
         );
 
         return completeScript(scriptList);
@@ -136,16 +271,23 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
     @Override
     public List<String> generateDeleteByIdScript(@NonNull GremlinSource source) {
+        return this.generateDeleteByIdScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateDeleteByIdScript(@NonNull GremlinSource source,
+                                                 @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceEdge)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
+        final Object id = source.getId().get();
         final List<String> scriptList = Arrays.asList(
                 GREMLIN_PRIMITIVE_GRAPH,                                  // g
                 GREMLIN_PRIMITIVE_EDGE_ALL,                               // E()
-                generateHasId(source.getId().get(), source.getIdField()), // hasId(xxx)
+                generateHasId(id, source.getIdField(), bindings),         // hasId(xxx)
                 GREMLIN_PRIMITIVE_DROP                                    // drop()
         );
 
@@ -158,7 +300,7 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
         }
 
-        return Collections.singletonList(GREMLIN_SCRIPT_EDGE_ALL);
+        return Collections.singletonList(GREMLIN_SCRIPT_EDGE_COUNT);
     }
 
 
@@ -181,5 +323,125 @@ public class GremlinScriptLiteralEdge extends AbstractGremlinScriptLiteral imple
 
         return Collections.singletonList(String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList));
     }
-}
 
+    /**
+     * Generate the query counting at most one edge of a particular label, to tell if there is any.
+     * @param source The {@link GremlinSource} instane.
+     * @return The query.
+     */
+    public List<String> generateExistsByLabelScript(GremlinSource source) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_EDGE_ALL,
+            generateHasLabel(source.getLabel()),
+            GREMLIN_PRIMITIVE_LIMIT_ONE,
+            GREMLIN_PRIMITIVE_COUNT
+        );
+
+        return Collections.singletonList(String.join(Constants.GREMLIN_PRIMITIVE_INVOKE, scriptList));
+    }
+
+    /**
+     * Generate the query returning the ids of the given vertices that exist.
+     */
+    public List<String> generateFindVertexIdsScript(@NonNull List<Object> vertexIds,
+                                                    @NonNull GremlinScriptBindings bindings) {
+        Assert.notEmpty(vertexIds, "vertex ids should not be empty");
+
+        final List<String> scriptList = Arrays.asList(
+            GREMLIN_PRIMITIVE_GRAPH,                                                // g
+            generateEntityWithRequiredIds(vertexIds, VERTEX, bindings),             // V(id, ...)
+            GREMLIN_PRIMITIVE_ID                                                    // id()
+        );
+
+        return completeScript(scriptList);
+    }
+
+    /**
+     * Generate the steps looking up an endpoint vertex of a batch, it is kept under the alias of the index
+     * for all the edges of the batch, so each vertex is looked up only once.
+     */
+    public String generateBatchVertexScript(@NonNull Object vertexId, int index,
+                                            @NonNull GremlinScriptBindings bindings) {
+        return String.join(GREMLIN_PRIMITIVE_INVOKE,
+            generateEntityWithRequiredId(vertexId, VERTEX, bindings),               // V(id)
+            generateAsWithAlias(BATCH_VERTEX_ALIAS_PREFIX + index)                  // as('n0')
+        );
+    }
+
+    /**
+     * Generate the steps writing the edge of source as the index-th element of a batch, between the endpoint
+     * vertices looked up by {@link #generateBatchVertexScript}. The edge is upserted among the out edges of
+     * its from vertex if it has id, or inserted, and its id is kept under the alias of the index.
+     */
+    @SuppressWarnings("unchecked")
+    public String generateBatchElementScript(@NonNull GremlinSource source, int index, int fromIndex, int toIndex,
+                                             @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceEdge)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceEdge");
+        }
+
+        final String fromAlias = BATCH_VERTEX_ALIAS_PREFIX + fromIndex;
+        final String toAlias = BATCH_VERTEX_ALIAS_PREFIX + toIndex;
+        final List<String> addList = new ArrayList<>();
+        final List<String> scriptList = new ArrayList<>();
+
+        addList.add(generateAddEntityWithLabel(source.getLabel(), EDGE));           // addE(label)
+        addList.add(generateEdgeDirection(fromAlias, toAlias));                     // from('n0').to('n1')
+
+        if (source.getId().isPresent()) {
+            final Object id = source.getId().get();
+            final String existing = String.join(GREMLIN_PRIMITIVE_INVOKE,
+                String.format("select('%s')", fromAlias),                           // select('n0')
+                String.format(GREMLIN_PRIMITIVE_OUT_EDGE, source.getLabel()),       // outE('label')
+                generateHasId(id, source.getIdField(), bindings)                    // hasId(xxx)
+            );
+
+            addList.add(generatePropertyWithRequiredId(id, bindings));              // property(id)
+            scriptList.add(String.format("coalesce(%s, %s)", existing, String.join(GREMLIN_PRIMITIVE_INVOKE, addList)));
+            scriptList.addAll(generateUpdateProperties(source.getProperties(), bindings));
+        } else {
+            scriptList.addAll(addList);
+            scriptList.addAll(generateProperties(source.getProperties(), bindings));
+        }
+
+        scriptList.add(GREMLIN_PRIMITIVE_ID);                                       // id()
+        scriptList.add(generateAsWithAlias(BATCH_EDGE_ALIAS_PREFIX + index));       // as('e0')
+
+        return String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList);
+    }
+
+    /**
+     * Chain the endpoint lookups and then the edges of a batch in one traversal. The result is the id of the
+     * only edge, or the map from the alias of each edge to its id.
+     */
+    public List<String> generateBatchScript(@NonNull List<String> vertexScripts, @NonNull List<String> elementScripts) {
+        Assert.notEmpty(elementScripts, "batch should contain elements");
+
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                    // g
+        scriptList.addAll(vertexScripts);
+        scriptList.addAll(elementScripts);
+
+        if (elementScripts.size() > 1) {
+            final List<String> aliases = new ArrayList<>(elementScripts.size());
+
+            for (int i = 0; i < elementScripts.size(); i++) {
+                aliases.add(String.format("'%s'", toBatchAlias(i)));
+            }
+
+            scriptList.add(String.format(GREMLIN_PRIMITIVE_SELECT, String.join(", ", aliases))); // select('e0', ...)
+        }
+
+        return completeScript(scriptList);
+    }
+
+    public static String toBatchAlias(int index) {
+        return BATCH_EDGE_ALIAS_PREFIX + index;
+    }
+}
@@ -35,6 +35,13 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
                 scriptEdge::generateInsertScript);
     }
 
+    @Override
+    public List<String> generateInsertScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        return generateInsertUpdateScript(source,
+                vertex -> scriptVertex.generateInsertScript(vertex, bindings),
+                edge -> scriptEdge.generateInsertScript(edge, bindings));
+    }
+
     @Override
     public List<String> generateDeleteAllScript() {
         return Arrays.asList(GREMLIN_SCRIPT_EDGE_DROP_ALL, GREMLIN_QUERY_BARRIER, GREMLIN_SCRIPT_VERTEX_DROP_ALL);
@@ -50,6 +57,12 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         throw new UnsupportedOperationException("Gremlin graph cannot findById by single query.");
     }
 
+    @Override
+    public List<String> generateFindByIdScript(@Nullable GremlinSource source,
+                                               @NonNull GremlinScriptBindings bindings) {
+        return generateFindByIdScript(source);
+    }
+
     @Override
     public List<String> generateUpdateScript(@NonNull GremlinSource source) {
         return generateInsertUpdateScript(source,
@@ -57,6 +70,13 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
                 scriptEdge::generateUpdateScript);
     }
 
+    @Override
+    public List<String> generateUpdateScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        return generateInsertUpdateScript(source,
+                vertex -> scriptVertex.generateUpdateScript(vertex, bindings),
+                edge -> scriptEdge.generateUpdateScript(edge, bindings));
+    }
+
     @SuppressWarnings("unchecked")
     private List<String> generateInsertUpdateScript(@NonNull GremlinSource source,
                                                     @NonNull Function<GremlinSource, List<String>> vertexHandler,
@@ -90,13 +110,32 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
         return this.generateDeleteAllScript();
     }
 
+    @Override
+    public List<String> generateDeleteByIdScript(@NonNull GremlinSource source,
+                                                 @NonNull GremlinScriptBindings bindings) {
+        return generateDeleteByIdScript(source);
+    }
+
     @Override
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
         throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
     }
 
+    @Override
+    public List<String> generateFindAllScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        return generateFindAllScript(source);
+    }
+
+    /**
+     * Generate the query counting at most one vertex, so its cost doesn't depend on the size of the graph.
+     */
     public List<String> generateIsEmptyScript() {
-        final List<String> scriptList = Arrays.asList(GREMLIN_PRIMITIVE_GRAPH, GREMLIN_PRIMITIVE_VERTEX_ALL);
+        final List<String> scriptList = Arrays.asList(
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_VERTEX_ALL,
+            GREMLIN_PRIMITIVE_LIMIT_ONE,
+            GREMLIN_PRIMITIVE_COUNT
+        );
         final String query = String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList);
 
         return Collections.singletonList(query);
@@ -106,4 +145,47 @@ public class GremlinScriptLiteralGraph implements GremlinScriptLiteral {
     public List<String> generateCountScript(@NonNull GremlinSource source) {
         throw new UnsupportedOperationException("Gremlin graph counting is not available.");
     }
+
+    @Override
+    public List<String> generateFindAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids) {
+        return this.generateFindAllByIdScript(source, ids, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateFindAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids,
+                                                  @NonNull GremlinScriptBindings bindings) {
+        throw new UnsupportedOperationException("Gremlin graph cannot be findAllById.");
+    }
+
+    @Override
+    public List<String> generateDeleteAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids) {
+        return this.generateDeleteAllByIdScript(source, ids, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateDeleteAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids,
+                                                    @NonNull GremlinScriptBindings bindings) {
+        throw new UnsupportedOperationException("Gremlin graph cannot be deleteAllById.");
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source) {
+        return this.generateExistsByIdScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source,
+                                                 @NonNull GremlinScriptBindings bindings) {
+        throw new UnsupportedOperationException("Gremlin graph existence check is not available.");
+    }
+
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        return this.generateUpsertScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        throw new UnsupportedOperationException("Gremlin graph upsert is not available.");
+    }
 }
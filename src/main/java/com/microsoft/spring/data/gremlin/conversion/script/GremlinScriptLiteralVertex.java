@@ -24,9 +24,16 @@ import static com.microsoft.spring.data.gremlin.common.GremlinEntityType.VERTEX;
 @NoArgsConstructor
 public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral implements GremlinScriptLiteral {
 
+    private static final String BATCH_ALIAS_PREFIX = "v";
+
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> generateInsertScript(@NonNull GremlinSource source) {
+        return this.generateInsertScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> generateInsertScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceVertex)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
@@ -34,13 +41,22 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         final List<String> scriptList = new ArrayList<>();
 
         scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                            // g
+        scriptList.addAll(generateInsertSteps(source, bindings));
+
+        return completeScript(scriptList);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> generateInsertSteps(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        final List<String> scriptList = new ArrayList<>();
+
         scriptList.add(generateAddEntityWithLabel(source.getLabel(), VERTEX));              // addV('label')
 
-        source.getId().ifPresent(id -> scriptList.add(generatePropertyWithRequiredId(id))); // property(id, xxx)
+        source.getId().ifPresent(id -> scriptList.add(generatePropertyWithRequiredId(id, bindings))); // property(id)
 
-        scriptList.addAll(generateProperties(source.getProperties()));
+        scriptList.addAll(generateProperties(source.getProperties(), bindings));
 
-        return completeScript(scriptList);
+        return scriptList;
     }
 
     @Override
@@ -66,24 +82,35 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
 
     @Override
     public List<String> generateFindByIdScript(@NonNull GremlinSource source) {
+        return this.generateFindByIdScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateFindByIdScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceVertex)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
+        final Object id = source.getId().get();
         final List<String> scriptList = Arrays.asList(
                 GREMLIN_PRIMITIVE_GRAPH,                                 // g
                 GREMLIN_PRIMITIVE_VERTEX_ALL,                            // V()
-                generateHasId(source.getId().get(), source.getIdField()) // hasId(xxx)
+                generateHasId(id, source.getIdField(), bindings)         // hasId(xxx)
         );
 
         return completeScript(scriptList);
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<String> generateUpdateScript(@NonNull GremlinSource source) {
+        return this.generateUpdateScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> generateUpdateScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceVertex)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
@@ -92,15 +119,211 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
+        final Object id = source.getId().get();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                    // g
+        scriptList.add(generateEntityWithRequiredId(id, VERTEX, bindings));         // V(id)
+        scriptList.addAll(generateUpdateProperties(source.getChangedProperties(), bindings));
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateFindAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids) {
+        return this.generateFindAllByIdScript(source, ids, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateFindAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids,
+                                                  @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                 // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                            // V()
+                generateHasIdWithin(ids, source.getIdField(), bindings)  // hasId(within(xxx, ...))
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateDeleteAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids) {
+        return this.generateDeleteAllByIdScript(source, ids, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateDeleteAllByIdScript(@NonNull GremlinSource source, @NonNull List<Object> ids,
+                                                    @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                 // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                            // V()
+                generateHasIdWithin(ids, source.getIdField(), bindings), // hasId(within(xxx, ...))
+                GREMLIN_PRIMITIVE_DROP                                   // drop()
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source) {
+        return this.generateExistsByIdScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateExistsByIdScript(@NonNull GremlinSource source,
+                                                 @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
+        final Object id = source.getId().get();
+        final List<String> scriptList = Arrays.asList(
+                GREMLIN_PRIMITIVE_GRAPH,                                 // g
+                GREMLIN_PRIMITIVE_VERTEX_ALL,                            // V()
+                generateHasId(id, source.getIdField(), bindings),        // hasId(xxx)
+                GREMLIN_PRIMITIVE_LIMIT_ONE,                             // limit(1)
+                GREMLIN_PRIMITIVE_COUNT                                  // count()
+        );
+
+        return completeScript(scriptList);
+    }
+
+    @Override
+    public List<String> generateUpsertScript(@NonNull GremlinSource source) {
+        return this.generateUpsertScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> generateUpsertScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
+
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                    // g
+        scriptList.addAll(generateUpsertSteps(source, bindings));
+
+        return completeScript(scriptList);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> generateUpsertSteps(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        final Object id = source.getId().get();
+        final List<String> scriptList = new ArrayList<>();
+
+        scriptList.add(GREMLIN_PRIMITIVE_VERTEX_ALL);                               // V()
+        scriptList.add(generateHasId(id, source.getIdField(), bindings));           // hasId(xxx)
+        scriptList.add(GREMLIN_PRIMITIVE_FOLD);                                     // fold()
+        // coalesce(unfold(), ...)
+        scriptList.add(generateCoalesceUnfold(Arrays.asList(
+                generateAddEntityWithLabel(source.getLabel(), VERTEX),              // addV('label')
+                generatePropertyWithRequiredId(id, bindings)                        // property(id)
+        )));
+        scriptList.addAll(generateUpdateProperties(source.getProperties(), bindings));
+
+        return scriptList;
+    }
+
+    /**
+     * Upsert steps chained after other elements of a batch. The fold() of {@link #generateUpsertSteps} is a
+     * barrier dropping the path, and then the aliases of the previous elements with it.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> generateChainedUpsertSteps(@NonNull GremlinSource source,
+                                                    @NonNull GremlinScriptBindings bindings) {
+        final Object id = source.getId().get();
+        final List<String> scriptList = new ArrayList<>();
+        final String existing = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            GREMLIN_PRIMITIVE_VERTEX_ALL,                                           // V()
+            generateHasId(id, source.getIdField(), bindings)                        // hasId(xxx)
+        );
+        final String added = String.join(GREMLIN_PRIMITIVE_INVOKE,
+            generateAddEntityWithLabel(source.getLabel(), VERTEX),                  // addV('label')
+            generatePropertyWithRequiredId(id, bindings)                            // property(id)
+        );
+
+        scriptList.add(String.format(GREMLIN_PRIMITIVE_COALESCE, existing, added)); // coalesce(V().hasId(xxx), ...)
+        scriptList.addAll(generateUpdateProperties(source.getProperties(), bindings));
+
+        return scriptList;
+    }
+
+    /**
+     * Generate the steps writing the vertex of source as the index-th element of a batch, to be chained by
+     * {@link #generateBatchScript(List)}. The vertex is upserted if it has id, or inserted, and its id is
+     * kept under the alias of the index.
+     */
+    public String generateBatchElementScript(@NonNull GremlinSource source, int index,
+                                             @NonNull GremlinScriptBindings bindings) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = new ArrayList<>();
+
+        if (source.getId().isPresent() && index == 0) {
+            scriptList.addAll(generateUpsertSteps(source, bindings));               // V().hasId(xxx)...
+        } else if (source.getId().isPresent()) {
+            scriptList.addAll(generateChainedUpsertSteps(source, bindings));        // coalesce(V().hasId(xxx), ...)
+        } else {
+            scriptList.addAll(generateInsertSteps(source, bindings));               // addV('label')...
+        }
+
+        scriptList.add(GREMLIN_PRIMITIVE_ID);                                       // id()
+        scriptList.add(generateAsWithAlias(toBatchAlias(index)));                   // as('v0')
+
+        return String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList);
+    }
+
+    /**
+     * Chain the elements of a batch in one traversal. The result is the id of the only element, or the map
+     * from the alias of each element to its id.
+     */
+    public List<String> generateBatchScript(@NonNull List<String> elementScripts) {
+        Assert.notEmpty(elementScripts, "batch should contain elements");
+
+        final List<String> scriptList = new ArrayList<>();
+
         scriptList.add(GREMLIN_PRIMITIVE_GRAPH);                                    // g
-        scriptList.add(generateEntityWithRequiredId(source.getId().get(), VERTEX)); // V(id)
-        scriptList.addAll(generateUpdateProperties(source.getProperties()));
+        scriptList.addAll(elementScripts);
+
+        if (elementScripts.size() > 1) {
+            final List<String> aliases = new ArrayList<>(elementScripts.size());
+
+            for (int i = 0; i < elementScripts.size(); i++) {
+                aliases.add(String.format("'%s'", toBatchAlias(i)));
+            }
+
+            scriptList.add(String.format(GREMLIN_PRIMITIVE_SELECT, String.join(", ", aliases))); // select('v0', ...)
+        }
 
         return completeScript(scriptList);
     }
 
+    public static String toBatchAlias(int index) {
+        return BATCH_ALIAS_PREFIX + index;
+    }
+
     @Override
     public List<String> generateFindAllScript(@NonNull GremlinSource source) {
+        return this.generateFindAllScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateFindAllScript(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceVertex)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
@@ -108,11 +331,12 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
         final String classname = source.getProperties().get(GREMLIN_PROPERTY_CLASSNAME).toString();
         Assert.notNull(classname, "GremlinSource should contain predefined classname");
 
+        final String hasClassname = generateHas(GREMLIN_PROPERTY_CLASSNAME, classname, bindings);
         final List<String> scriptList = Arrays.asList(
                 GREMLIN_PRIMITIVE_GRAPH,                           // g
                 GREMLIN_PRIMITIVE_VERTEX_ALL,                      // V()
                 generateHasLabel(source.getLabel()),               // has(label, 'label')
-                generateHas(GREMLIN_PROPERTY_CLASSNAME, classname) // has(_classname, 'xxxxxx')
+                hasClassname                                       // has(_classname, 'xxxxxx')
         );
 
         return completeScript(scriptList);
@@ -120,16 +344,23 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
 
     @Override
     public List<String> generateDeleteByIdScript(@NonNull GremlinSource source) {
+        return this.generateDeleteByIdScript(source, GremlinScriptBindings.inline());
+    }
+
+    @Override
+    public List<String> generateDeleteByIdScript(@NonNull GremlinSource source,
+                                                 @NonNull GremlinScriptBindings bindings) {
         if (!(source instanceof GremlinSourceVertex)) {
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
 
         Assert.isTrue(source.getId().isPresent(), "GremlinSource should contain id.");
 
+        final Object id = source.getId().get();
         final List<String> scriptList = Arrays.asList(
                 GREMLIN_PRIMITIVE_GRAPH,                                  // g
                 GREMLIN_PRIMITIVE_VERTEX_ALL,                             // E()
-                generateHasId(source.getId().get(), source.getIdField()), // hasId(xxx)
+                generateHasId(id, source.getIdField(), bindings),         // hasId(xxx)
                 GREMLIN_PRIMITIVE_DROP                                    // drop()
         );
 
@@ -142,7 +373,7 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
             throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
         }
 
-        return Collections.singletonList(GREMLIN_SCRIPT_VERTEX_ALL);
+        return Collections.singletonList(GREMLIN_SCRIPT_VERTEX_COUNT);
     }
 
     /**
@@ -164,5 +395,25 @@ public class GremlinScriptLiteralVertex extends AbstractGremlinScriptLiteral imp
 
         return Collections.singletonList(String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList));
     }
-}
 
+    /**
+     * Generate the query counting at most one vertex of a particular label, to tell if there is any.
+     * @param source The {@link GremlinSource} instane.
+     * @return The query.
+     */
+    public List<String> generateExistsByLabelScript(GremlinSource source) {
+        if (!(source instanceof GremlinSourceVertex)) {
+            throw new GremlinUnexpectedSourceTypeException("should be the instance of GremlinSourceVertex");
+        }
+
+        final List<String> scriptList = Arrays.asList(
+            GREMLIN_PRIMITIVE_GRAPH,
+            GREMLIN_PRIMITIVE_VERTEX_ALL,
+            generateHasLabel(source.getLabel()),
+            GREMLIN_PRIMITIVE_LIMIT_ONE,
+            GREMLIN_PRIMITIVE_COUNT
+        );
+
+        return Collections.singletonList(String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList));
+    }
+}
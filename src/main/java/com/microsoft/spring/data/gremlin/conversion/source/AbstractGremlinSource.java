@@ -46,6 +46,13 @@ public abstract class AbstractGremlinSource<T> implements GremlinSource<T> {
     @Setter
     private Map<String, Object> properties;
 
+    @Getter
+    @Setter
+    private Map<String, Object> snapshot;
+
+    @Setter
+    private Map<String, Object> changedProperties;
+
     @Setter(AccessLevel.PRIVATE)
     private GremlinScriptLiteral scriptLiteral;
 
@@ -99,6 +106,11 @@ public abstract class AbstractGremlinSource<T> implements GremlinSource<T> {
         }
     }
 
+    @Override
+    public Map<String, Object> getChangedProperties() {
+        return this.changedProperties == null ? this.properties : this.changedProperties;
+    }
+
     @Override
     public void setGremlinScriptStrategy(@NonNull GremlinScriptLiteral script) {
         this.setScriptLiteral(script);
@@ -7,6 +7,7 @@ package com.microsoft.spring.data.gremlin.conversion.source;
 
 
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan.PropertyPlan;
 import com.microsoft.spring.data.gremlin.exception.GremlinEntityInformationException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import org.apache.tinkerpop.shaded.jackson.databind.JavaType;
@@ -27,6 +28,15 @@ public abstract class AbstractGremlinSourceReader {
         final Class<?> type = property.getTypeInformation().getType();
         final JavaType javaType = TypeFactory.defaultInstance().constructType(property.getType());
 
+        return this.readProperty(property, type, javaType, value);
+    }
+
+    protected Object readProperty(@NonNull PropertyPlan plan, @Nullable Object value) {
+        return this.readProperty(plan.getProperty(), plan.getType(), plan.getJavaType(), value);
+    }
+
+    private Object readProperty(@NonNull PersistentProperty property, @NonNull Class<?> type,
+                                @NonNull JavaType javaType, @Nullable Object value) {
         if (value == null) {
             return null;
         } else if (type == int.class || type == Integer.class
@@ -84,6 +84,31 @@ public interface GremlinSource<T> {
      */
     Map<String, Object> getProperties();
 
+    /**
+     * Set the properties of domain last known on the server, in the values written into the script.
+     * Null if unknown.
+     */
+    void setSnapshot(Map<String, Object> snapshot);
+
+    /**
+     * Get the properties of domain last known on the server
+     *
+     * @return null if unknown
+     */
+    Map<String, Object> getSnapshot();
+
+    /**
+     * Set the properties changed from the snapshot, null if all the properties are to be updated.
+     */
+    void setChangedProperties(Map<String, Object> properties);
+
+    /**
+     * Get the properties to update, the ones changed from the snapshot or all of them without snapshot.
+     *
+     * @return will never be null
+     */
+    Map<String, Object> getChangedProperties();
+
     /**
      * do the real write from domain to GremlinSource
      */
@@ -6,21 +6,15 @@
 package com.microsoft.spring.data.gremlin.conversion.source;
 
 
-import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
-import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
-import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.common.LazyVertexProxy;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan.PropertyPlan;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinEntityInformationException;
 import com.microsoft.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.lang.NonNull;
-import org.springframework.util.Assert;
-import java.lang.reflect.Field;
 
 import lombok.NoArgsConstructor;
 
@@ -32,6 +26,8 @@ public class GremlinSourceEdgeWriter implements GremlinSourceWriter {
     private Object getIdValue(@NonNull Object object, @NonNull MappingGremlinConverter converter) {
         if (object instanceof String || object instanceof Long || object instanceof Integer) {
             return object;
+        } else if (LazyVertexProxy.isProxy(object)) {
+            return LazyVertexProxy.getId(object);
         } else if (object.getClass().isPrimitive()) {
             throw new GremlinUnexpectedEntityTypeException("only String type of primitive is allowed");
         } else {
@@ -49,42 +45,41 @@ public class GremlinSourceEdgeWriter implements GremlinSourceWriter {
         source.setId(converter.getIdFieldValue(domain));
 
         final GremlinSourceEdge sourceEdge = (GremlinSourceEdge) source;
-        final GremlinPersistentEntity<?> persistentEntity = converter.getPersistentEntity(domain.getClass());
         final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
 
-        for (final Field field : converter.getAllFields(domain.getClass())) {
-            final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
+        for (final PropertyPlan plan : converter.getMappingPlan(domain.getClass()).getProperties()) {
+            final Object object = accessor.getProperty(plan.getProperty());
 
-            if (property != null) {
-                Assert.notNull(property, "persistence property should not be null");
-
-                final Object object = accessor.getProperty(property);
-
-                if (field.getName().equals(Constants.PROPERTY_ID) ||
-                    field.getAnnotation(Id.class) != null) {
-                    continue;
-                } else if (field.getName().equals(GREMLIN_PROPERTY_CLASSNAME)) {
-                    throw new GremlinEntityInformationException(
-                        "Domain Cannot use pre-defined field name: "
-                            + GREMLIN_PROPERTY_CLASSNAME);
-                } else if (field.getAnnotation(EdgeFrom.class) != null) {
-                    final Object vertexId = this.getIdValue(object, converter);
-                    if (vertexId == null) {
-                        throw new GremlinInvalidEntityIdFieldException(
-                            "The vertex id for the from vertex cannot be null!");
-                    }
-                    sourceEdge.setVertexIdFrom(vertexId);
-                } else if (field.getAnnotation(EdgeTo.class) != null) {
-                    final Object vertexId = this.getIdValue(object, converter);
-                    if (vertexId == null) {
-                        throw new GremlinInvalidEntityIdFieldException(
-                            "The vertex id for the to vertex cannot be null!");
-                    }
-                    sourceEdge.setVertexIdTo(vertexId);
+            if (plan.isId()) {
+                continue;
+            } else if (plan.isClassName()) {
+                throw new GremlinEntityInformationException(
+                    "Domain Cannot use pre-defined field name: "
+                        + GREMLIN_PROPERTY_CLASSNAME);
+            } else if (plan.isEdgeFrom()) {
+                final Object vertexId = this.getIdValue(object, converter);
+                if (vertexId == null) {
+                    throw new GremlinInvalidEntityIdFieldException(
+                        "The vertex id for the from vertex cannot be null!");
                 }
-                source.setProperty(field.getName(), accessor.getProperty(property));
+                sourceEdge.setVertexIdFrom(vertexId);
+            } else if (plan.isEdgeTo()) {
+                final Object vertexId = this.getIdValue(object, converter);
+                if (vertexId == null) {
+                    throw new GremlinInvalidEntityIdFieldException(
+                        "The vertex id for the to vertex cannot be null!");
+                }
+                sourceEdge.setVertexIdTo(vertexId);
+            }
+
+            // A lazy vertex not loaded yet is not written as property, the edge still refers to it by id.
+            if (!LazyVertexProxy.isProxy(object)) {
+                source.setProperty(plan.getName(), object);
+            } else if (LazyVertexProxy.isLoaded(object)) {
+                source.setProperty(plan.getName(), LazyVertexProxy.unwrap(object));
             }
         }
+
+        this.writeChangedProperties(source);
     }
 }
-
@@ -60,20 +60,15 @@ public class GremlinSourceGraphReader extends AbstractGremlinSourceReader implem
     }
 
     private List<Object> readEntitySet(List<GremlinSource> sources, MappingGremlinConverter converter) {
-        Class<?> domainClass;
         final List<Object> domainObjects = new ArrayList<>();
 
         for (final GremlinSource source : sources) {
-            try {
-                domainClass = Class.forName((String) source.getProperties().get(Constants.GREMLIN_PROPERTY_CLASSNAME));
-            } catch (ClassNotFoundException e) {
-                throw new GremlinUnexpectedSourceTypeException("No Java class found for source property "
-                        + Constants.GREMLIN_PROPERTY_CLASSNAME, e);
-            }
+            final String className = (String) source.getProperties().get(Constants.GREMLIN_PROPERTY_CLASSNAME);
+            final GremlinEntityInformation<?, ?> information = GremlinEntityInformation.getByClassName(className);
 
             // TODO: seems unnecessary here.
-            source.setIdField(GremlinEntityInformation.get(domainClass).getIdField());
-            domainObjects.add(source.doGremlinSourceRead(domainClass, converter));
+            source.setIdField(information.getIdField());
+            domainObjects.add(source.doGremlinSourceRead(information.getJavaType(), converter));
         }
 
         return domainObjects;
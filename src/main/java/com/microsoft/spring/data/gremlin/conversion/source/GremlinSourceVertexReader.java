@@ -6,18 +6,14 @@
 package com.microsoft.spring.data.gremlin.conversion.source;
 
 
-import com.microsoft.spring.data.gremlin.common.Constants;
-import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan.PropertyPlan;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinReadPropertyException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import org.springframework.core.convert.ConversionFailedException;
-import org.springframework.data.annotation.Id;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.lang.NonNull;
-import java.lang.reflect.Field;
 
 import lombok.NoArgsConstructor;
 
@@ -31,32 +27,27 @@ public class GremlinSourceVertexReader extends AbstractGremlinSourceReader imple
             throw new GremlinUnexpectedSourceTypeException("should be instance of GremlinSourceVertex");
         }
 
-        final T domain = GremlinUtils.createInstance(domainClass);
+        final T domain = converter.createInstance(domainClass);
         final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
-        final GremlinPersistentEntity persistentEntity = converter.getPersistentEntity(domainClass);
 
-        for (final Field field : converter.getAllFields(domainClass)) {
-            final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
-
-            if (property != null) {
-                if (field.getName().equals(Constants.PROPERTY_ID) ||
-                    field.getAnnotation(Id.class) != null) {
-                    accessor.setProperty(property, super.getGremlinSourceId(source));
-                } else {
-                    final Object sourceValue =
-                        source.getProperties().get(field.getName());
-                    try {
-                        accessor.setProperty(property,
-                            sourceValue == null ||
-                                "null".equalsIgnoreCase(sourceValue.toString()) ? null :
-                                super.readProperty(property, sourceValue));
-                    } catch (ConversionFailedException cfe) {
-                        throw new GremlinReadPropertyException(
-                            domainClass,
-                            property,
-                            sourceValue,
-                            cfe);
-                    }
+        for (final PropertyPlan plan : converter.getMappingPlan(domainClass).getProperties()) {
+            final PersistentProperty property = plan.getProperty();
+
+            if (plan.isId()) {
+                accessor.setProperty(property, super.getGremlinSourceId(source));
+            } else {
+                final Object sourceValue = source.getProperties().get(plan.getName());
+                try {
+                    accessor.setProperty(property,
+                        sourceValue == null ||
+                            "null".equalsIgnoreCase(sourceValue.toString()) ? null :
+                            super.readProperty(plan, sourceValue));
+                } catch (ConversionFailedException cfe) {
+                    throw new GremlinReadPropertyException(
+                        domainClass,
+                        property,
+                        sourceValue,
+                        cfe);
                 }
             }
         }
@@ -6,20 +6,17 @@
 package com.microsoft.spring.data.gremlin.conversion.source;
 
 
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan.PropertyPlan;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinEntityInformationException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
-import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.lang.NonNull;
-import java.lang.reflect.Field;
 
 import lombok.NoArgsConstructor;
 
 import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PROPERTY_CLASSNAME;
-import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_ID;
 
 @NoArgsConstructor
 public class GremlinSourceVertexWriter implements GremlinSourceWriter {
@@ -33,26 +30,22 @@ public class GremlinSourceVertexWriter implements GremlinSourceWriter {
 
         source.setId(converter.getIdFieldValue(domain));
 
-        final GremlinPersistentEntity<?> persistentEntity = converter.getPersistentEntity(domain.getClass());
+        final GremlinMappingPlan mappingPlan = converter.getMappingPlan(domain.getClass());
         final ConvertingPropertyAccessor accessor = converter.getPropertyAccessor(domain);
 
-        for (final Field field : converter.getAllFields(domain.getClass())) {
-            final PersistentProperty property = persistentEntity.getPersistentProperty(field.getName());
-
-            // If we add transient checks when building, it is possible for persistent property to be null.
-            if (property != null) {
-                //Assert.notNull(property, field.getName() + " persistence property should not be null");
-
-                if (field.getName().equals(PROPERTY_ID) ||
-                    field.getAnnotation(Id.class) != null) {
-                    continue;
-                }
-                source.setProperty(field.getName(), accessor.getProperty(property));
-            } else if (field.getName().equals(GREMLIN_PROPERTY_CLASSNAME)) {
-                throw new GremlinEntityInformationException("Domain Cannot use pre-defined field name: "
-                    + GREMLIN_PROPERTY_CLASSNAME);
+        // If we add transient checks when building, it is possible for persistent property to be null.
+        if (mappingPlan.isTransientClassNameField()) {
+            throw new GremlinEntityInformationException("Domain Cannot use pre-defined field name: "
+                + GREMLIN_PROPERTY_CLASSNAME);
+        }
+
+        for (final PropertyPlan plan : mappingPlan.getProperties()) {
+            if (plan.isId()) {
+                continue;
             }
+            source.setProperty(plan.getName(), accessor.getProperty(plan.getProperty()));
         }
+
+        this.writeChangedProperties(source);
     }
 }
-
@@ -6,6 +6,12 @@
 package com.microsoft.spring.data.gremlin.conversion.source;
 
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import org.springframework.lang.NonNull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.microsoft.spring.data.gremlin.conversion.script.AbstractGremlinScriptLiteral.toScriptValue;
 
 /**
  * Provider Entity type dependent write method.
@@ -15,4 +21,30 @@ public interface GremlinSourceWriter {
      * Write the domain class information to GremlinSource
      */
     void write(Object domain, MappingGremlinConverter converter, GremlinSource source);
+
+    /**
+     * Keep the properties written to GremlinSource which differ from its snapshot as the changed ones. A property
+     * missing from the domain is not removed on the server, so only the written properties are compared.
+     */
+    default void writeChangedProperties(@NonNull GremlinSource<?> source) {
+        final Map<String, Object> snapshot = source.getSnapshot();
+
+        if (snapshot == null) {
+            source.setChangedProperties(null);
+            return;
+        }
+
+        final Map<String, Object> changed = new HashMap<>();
+
+        for (final Map.Entry<String, Object> property : source.getProperties().entrySet()) {
+            final String name = property.getKey();
+            final Object value = property.getValue();
+
+            if (!snapshot.containsKey(name) || !Objects.equals(snapshot.get(name), toScriptValue(value))) {
+                changed.put(name, value);
+            }
+        }
+
+        source.setChangedProperties(changed);
+    }
 }
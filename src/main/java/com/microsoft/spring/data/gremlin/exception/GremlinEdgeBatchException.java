@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.exception;
+
+import org.springframework.lang.NonNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Thrown by the batched saveAll when some edges are not written because their endpoint vertices don't exist,
+ * all the other domains are written.
+ */
+public class GremlinEdgeBatchException extends GremlinQueryException {
+
+    private static final int MAX_FAILURES_IN_MESSAGE = 10;
+
+    @Getter
+    private final List<Failure> failures;
+
+    public GremlinEdgeBatchException(@NonNull List<Failure> failures) {
+        super(toMessage(failures));
+
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+    }
+
+    private static String toMessage(@NonNull List<Failure> failures) {
+        final String details = failures.stream().limit(MAX_FAILURES_IN_MESSAGE).map(Failure::toString)
+            .collect(Collectors.joining(", "));
+        final String more = failures.size() > MAX_FAILURES_IN_MESSAGE ? ", ..." : "";
+
+        return String.format("%d edges are not written as endpoint vertices are missing: %s%s",
+            failures.size(), details, more);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Failure implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The index of the batch the edge belongs to.
+         */
+        private final int batch;
+
+        /**
+         * The index of the edge in the domains given to saveAll.
+         */
+        private final int index;
+
+        private final Object edge;
+
+        private final List<Object> missingVertexIds;
+
+        @Override
+        public String toString() {
+            return String.format("edge %d of batch %d misses vertices %s", this.index, this.batch,
+                this.missingVertexIds);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * Provider interface for basic Operations with Gremlin that do not block the caller. The returned futures
+ * complete once the results are read and mapped to domain, or exceptionally with GremlinQueryException.
+ */
+public interface GremlinAsyncOperations
+{
+
+    <T> CompletableFuture<Boolean> existsByIdAsync(Object id, GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<Boolean> existsByIdAsync(Object id, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return existsByIdAsync(id, source);
+    }
+
+
+    <T> CompletableFuture<Void> deleteByIdAsync(Object id, GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<Void> deleteByIdAsync(Object id, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return deleteByIdAsync(id, source);
+    }
+
+
+    <T> CompletableFuture<T> insertAsync(T object, GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<T> insertAsync(T object, Class<T> domainClass) {
+        final GremlinEntityInformation entityInformation =
+            GremlinEntityInformation.get(domainClass);
+        final GremlinSource<T> source =
+            entityInformation.createGremlinSource();
+        source.setId(entityInformation.getId(object));
+
+        return insertAsync(object, source);
+    }
+
+
+    <T> CompletableFuture<T> findByIdAsync(Object id, GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<T> findByIdAsync(Object id, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return findByIdAsync(id, source);
+    }
+
+
+    <T> CompletableFuture<T> updateAsync(T object, GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<T> updateAsync(T object, Class<T> domainClass) {
+        final GremlinEntityInformation entityInformation =
+            GremlinEntityInformation.get(domainClass);
+        final GremlinSource<T> source =
+            entityInformation.createGremlinSource();
+        source.setId(entityInformation.getId(object));
+
+        return updateAsync(object, source);
+    }
+
+
+    <T> CompletableFuture<T> saveAsync(T object, GremlinSource<T> source);
+
+
+    @SuppressWarnings("unchecked")
+    default <T> CompletableFuture<T> saveAsync(T object) {
+        return saveAsync(object, (Class<T>) object.getClass());
+    }
+
+
+    default <T> CompletableFuture<T> saveAsync(T object, Class<T> domainClass) {
+        final GremlinEntityInformation entityInformation =
+            GremlinEntityInformation.get(domainClass);
+        final GremlinSource<T> source =
+            entityInformation.createGremlinSource();
+        source.setId(entityInformation.getId(object));
+
+        return saveAsync(object, source);
+    }
+
+
+    <T> CompletableFuture<List<T>> findAllAsync(GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<List<T>> findAllAsync(Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return findAllAsync(source);
+    }
+
+
+    CompletableFuture<Long> vertexCountAsync();
+
+
+    CompletableFuture<Long> edgeCountAsync();
+
+
+    /**
+     * Count the elements matching the given query on the server side, without fetching them.
+     */
+    <T> CompletableFuture<Long> countAsync(GremlinQuery query, GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<Long> countAsync(GremlinQuery query, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return countAsync(query, source);
+    }
+
+
+    <T> CompletableFuture<List<T>> findAsync(GremlinQuery query, GremlinSource<T> source);
+
+
+    default <T> CompletableFuture<List<T>> findAsync(GremlinQuery query, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return findAsync(query, source);
+    }
+}
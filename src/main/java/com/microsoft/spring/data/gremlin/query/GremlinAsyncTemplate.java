@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralEdge;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralGraph;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralVertex;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceGraph;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.query.query.QueryCountScriptGenerator;
+import com.microsoft.spring.data.gremlin.query.query.QueryFindScriptGenerator;
+import com.microsoft.spring.data.gremlin.query.query.QueryScriptGenerator;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.springframework.lang.NonNull;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link GremlinTemplate}. Queries are submitted with the asynchronous API of the
+ * driver and the results are read and mapped in the callbacks of its futures, sharing the mapping converter
+ * and the domain cache of the given template.
+ */
+public class GremlinAsyncTemplate implements GremlinAsyncOperations {
+
+    private final GremlinTemplate template;
+
+    public GremlinAsyncTemplate(@NonNull GremlinTemplate template) {
+        this.template = template;
+    }
+
+    public GremlinTemplate getTemplate() {
+        return this.template;
+    }
+
+    private CompletableFuture<List<Result>> executeQueryAsync(@NonNull List<String> queries,
+                                                              @NonNull GremlinScriptBindings bindings) {
+        return this.template.executeQueryAsync(queries, bindings.getBindings());
+    }
+
+    private static CompletableFuture<Long> toLong(@NonNull CompletableFuture<List<Result>> future) {
+        return future.thenApply(results -> results.get(0).getLong());
+    }
+
+    @Override
+    public <T> CompletableFuture<Boolean> existsByIdAsync(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        source.setId(id);
+
+        if (this.template.getCachedDomain(source, id) != null) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateExistsByIdScript(source, bindings);
+
+        return toLong(this.executeQueryAsync(queryList, bindings)).thenApply(count -> count > 0);
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteByIdAsync(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        source.setId(id);
+
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteByIdScript(source, bindings);
+
+        return this.executeQueryAsync(queryList, bindings)
+            .thenAccept(results -> this.template.evictCachedDomain(source, id));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> insertAsync(@NonNull T object, @NonNull GremlinSource<T> source) {
+        this.template.checkInsertable(source);
+
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+
+        this.template.getMappingConverter().write(object, source);
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateInsertScript(source, bindings);
+
+        return this.executeQueryAsync(queryList, bindings).thenCompose(results -> {
+            this.template.invalidateReads(source);
+
+            if (results.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            } else if (source instanceof GremlinSourceGraph) {
+                return CompletableFuture.completedFuture(
+                    this.template.recoverGraphDomain((GremlinSourceGraph<T>) source, results));
+            }
+
+            return this.recoverDomainAsync(source, results);
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> findByIdAsync(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findById.");
+        }
+
+        source.setId(id);
+
+        final Object cachedInstance = this.template.getCachedDomain(source, id);
+
+        if (cachedInstance != null) {
+            return CompletableFuture.completedFuture((T) cachedInstance);
+        }
+
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateFindByIdScript(source, bindings);
+
+        return this.executeQueryAsync(queryList, bindings).thenCompose(results -> {
+            if (results.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            return this.recoverDomainAsync(source, results);
+        });
+    }
+
+    private <T> CompletableFuture<List<Result>> updateInternalAsync(@NonNull T object,
+                                                                    @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+
+        this.template.getMappingConverter().write(object, source);
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateUpdateScript(source, bindings);
+
+        return this.executeQueryAsync(queryList, bindings);
+    }
+
+    private <T> CompletableFuture<List<Result>> upsertInternalAsync(@NonNull T object,
+                                                                    @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+
+        this.template.getMappingConverter().write(object, source);
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateUpsertScript(source, bindings);
+
+        return this.executeQueryAsync(queryList, bindings);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> updateAsync(@NonNull T object, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            return this.updateInternalAsync(object, source).thenApply(results -> {
+                this.template.invalidateReads(source);
+
+                return object;
+            });
+        }
+
+        final Optional<Object> optional = source.getId();
+
+        if (!optional.isPresent()) {
+            throw new GremlinQueryException("cannot update the object doesn't exist");
+        }
+
+        return this.updateInternalAsync(object, source).thenApply(results -> {
+            if (results.isEmpty()) {
+                throw new GremlinQueryException("cannot update the object doesn't exist");
+            }
+
+            this.template.cacheWrittenDomain(source, optional.get(), object);
+
+            return object;
+        });
+    }
+
+    @Override
+    public <T> CompletableFuture<T> saveAsync(@NonNull T object, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            return this.isEmptyGraphAsync().thenCompose(empty -> empty ? this.insertAsync(object, source) :
+                this.updateInternalAsync(object, source).thenApply(results -> {
+                    this.template.invalidateReads(source);
+
+                    return object;
+                }));
+        }
+
+        final Optional<Object> optional = source.getId();
+
+        if (!optional.isPresent()) {
+            return this.insertAsync(object, source);
+        } else if (this.template.isUpsertable(source)) {
+            return this.upsertInternalAsync(object, source).thenApply(results -> {
+                this.template.cacheWrittenDomain(source, optional.get(), object);
+
+                return object;
+            });
+        }
+
+        return this.updateInternalAsync(object, source).thenApply(results -> {
+            if (results.isEmpty()) {
+                this.template.checkInsertable(source);
+            }
+
+            this.template.cacheWrittenDomain(source, optional.get(), object);
+
+            return object;
+        });
+    }
+
+    private CompletableFuture<Boolean> isEmptyGraphAsync() {
+        final List<String> queryList = new GremlinScriptLiteralGraph().generateIsEmptyScript();
+
+        return toLong(this.template.executeQueryAsync(queryList, Collections.emptyMap()))
+            .thenApply(count -> count == 0);
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> findAllAsync(@NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
+        }
+
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source, bindings);
+
+        return this.executeQueryAsync(queryList, bindings)
+            .thenCompose(results -> recoverDomainListAsync(source, results));
+    }
+
+    @Override
+    public CompletableFuture<Long> vertexCountAsync() {
+        final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
+        final List<String> queryList = script.generateCountScript(new GremlinSourceVertex());
+
+        return toLong(this.template.executeQueryAsync(queryList, Collections.emptyMap()));
+    }
+
+    @Override
+    public CompletableFuture<Long> edgeCountAsync() {
+        final GremlinScriptLiteral script = new GremlinScriptLiteralEdge();
+        final List<String> queryList = script.generateCountScript(new GremlinSourceEdge());
+
+        return toLong(this.template.executeQueryAsync(queryList, Collections.emptyMap()));
+    }
+
+    @Override
+    public <T> CompletableFuture<Long> countAsync(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+        final QueryScriptGenerator generator = new QueryCountScriptGenerator(source, bindings);
+
+        return toLong(this.executeQueryAsync(generator.generate(query), bindings));
+    }
+
+    @Override
+    public <T> CompletableFuture<List<T>> findAsync(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.template.createScriptBindings();
+        final QueryScriptGenerator generator = new QueryFindScriptGenerator(source, bindings);
+
+        return this.executeQueryAsync(generator.generate(query), bindings)
+            .thenCompose(results -> recoverDomainListAsync(source, results));
+    }
+
+    /**
+     * The vertices of edge results are found asynchronously all at once before mapping, so that edge completion
+     * never queries them from the callbacks of the driver.
+     */
+    private <T> CompletableFuture<T> recoverDomainAsync(@NonNull GremlinSource<T> source,
+                                                        @NonNull List<Result> results) {
+        return this.template.findEdgeVerticesAsync(source, results)
+            .thenApply(vertices -> this.template.recoverDomain(source, results, vertices));
+    }
+
+    <T> CompletableFuture<List<T>> recoverDomainListAsync(@NonNull GremlinSource<T> source,
+                                                          @NonNull List<Result> results) {
+        if (results.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        return this.template.findEdgeVerticesAsync(source, results)
+            .thenApply(vertices -> this.template.recoverDomainList(source, results, vertices));
+    }
+}
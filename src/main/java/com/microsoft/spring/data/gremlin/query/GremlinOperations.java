@@ -14,6 +14,7 @@ import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
 import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import org.springframework.lang.NonNull;
 import java.util.List;
+import java.util.stream.Stream;
 
 
 /**
@@ -42,6 +43,20 @@ public interface GremlinOperations
     <T> boolean isEmptyGraph(GremlinSource<T> source);
 
 
+    /**
+     * Check if any vertex or edge has the label of the domain, without counting or fetching all of them.
+     */
+    <T> boolean existsByLabel(GremlinSource<T> source);
+
+
+    default <T> boolean existsByLabel(Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return existsByLabel(source);
+    }
+
+
     <T> boolean existsById(Object id, GremlinSource<T> source);
 
 
@@ -64,6 +79,20 @@ public interface GremlinOperations
     }
 
 
+    /**
+     * Delete the elements of the given ids with as few queries as possible, the ids not found are ignored.
+     */
+    <T> void deleteAllById(List<Object> ids, GremlinSource<T> source);
+
+
+    default <T> void deleteAllById(List<Object> ids, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        deleteAllById(ids, source);
+    }
+
+
     <T> T insert(T object, GremlinSource<T> source);
 
 
@@ -89,6 +118,21 @@ public interface GremlinOperations
     }
 
 
+    /**
+     * Find the elements of the given ids in the given order, the ids not found are skipped. The cached elements
+     * are served first, the others are found with as few queries as possible.
+     */
+    <T> List<T> findAllById(List<Object> ids, GremlinSource<T> source);
+
+
+    default <T> List<T> findAllById(List<Object> ids, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return findAllById(ids, source);
+    }
+
+
     <T> T findVertexById(Object id, GremlinSource<T> source);
 
 
@@ -159,6 +203,21 @@ public interface GremlinOperations
     }
 
 
+    /**
+     * Stream all the elements of the domain, each one is read from the server and mapped as the stream reaches it.
+     * The stream should be closed to release the results not read yet.
+     */
+    <T> Stream<T> streamAll(GremlinSource<T> source);
+
+
+    default <T> Stream<T> streamAll(Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return streamAll(source);
+    }
+
+
     long vertexCount();
 
 
@@ -171,6 +230,26 @@ public interface GremlinOperations
     <T> long edgeCount(Class<T> domainClass);
 
 
+    /**
+     * Count both the vertices and the edges, the two counts are submitted concurrently.
+     */
+    long count();
+
+
+    /**
+     * Count the elements matching the given query on the server side, without fetching them.
+     */
+    <T> long count(GremlinQuery query, GremlinSource<T> source);
+
+
+    default <T> long count(GremlinQuery query, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return count(query, source);
+    }
+
+
     <T> List<T> find(GremlinQuery query, GremlinSource<T> source);
 
 
@@ -181,6 +260,16 @@ public interface GremlinOperations
         return find(query, source);
     }
 
+    <T> Stream<T> stream(GremlinQuery query, GremlinSource<T> source);
+
+
+    default <T> Stream<T> stream(GremlinQuery query, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return stream(query, source);
+    }
+
     <T> List<T> find(@NonNull List<String> queryList, GremlinSource<T> source);
 
 
@@ -192,6 +281,9 @@ public interface GremlinOperations
     }
 
 
+    /**
+     * Save the objects with as few queries as possible, and return them in the given order.
+     */
     <T> List<T> saveAll(List<T> objects);
 
 
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinDomainCache;
+import com.microsoft.spring.data.gremlin.common.GremlinDomainCacheStats;
+import com.microsoft.spring.data.gremlin.common.LruGremlinDomainCache;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ids of the domains found by derived queries, per label and then per script and bindings. The domains are
+ * resolved from the domain cache, and any write to a label invalidates the entries of that label only.
+ */
+public class GremlinQueryCache {
+
+    private final long maxSize;
+
+    private final long expireAfterWrite;
+
+    private final Map<String, LabelEntries> labelEntries = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize          the max number of queries cached per label, unbounded when not positive.
+     * @param expireAfterWrite milliseconds the ids of a query stay cached, never expire when not positive.
+     */
+    public GremlinQueryCache(long maxSize, long expireAfterWrite) {
+        this.maxSize = maxSize;
+        this.expireAfterWrite = expireAfterWrite;
+    }
+
+    private LabelEntries getLabelEntries(@NonNull String label) {
+        return this.labelEntries.computeIfAbsent(label, l -> new LabelEntries(LruGremlinDomainCache.builder()
+            .maxSize(this.maxSize)
+            .expireAfterWrite(this.expireAfterWrite)
+            .build()));
+    }
+
+    /**
+     * @return the ids found by the query last time, or null if not cached.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public List<Object> get(@NonNull String label, @NonNull List<String> queries,
+                            @NonNull Map<String, Object> bindings) {
+        return (List<Object>) this.getLabelEntries(label).ids.get(toKey(queries, bindings));
+    }
+
+    /**
+     * Get the version of the label to give to {@link #put}, taken before the query is submitted.
+     */
+    public long getVersion(@NonNull String label) {
+        final LabelEntries entries = this.getLabelEntries(label);
+
+        synchronized (entries) {
+            return entries.version;
+        }
+    }
+
+    /**
+     * Cache the ids found by the query, unless the label was invalidated since the given version was taken as
+     * the ids may be stale then.
+     */
+    public void put(@NonNull String label, @NonNull List<String> queries, @NonNull Map<String, Object> bindings,
+                    @NonNull List<Object> ids, long version) {
+        final LabelEntries entries = this.getLabelEntries(label);
+
+        synchronized (entries) {
+            if (entries.version == version) {
+                entries.ids.put(toKey(queries, bindings), Collections.unmodifiableList(ids));
+            }
+        }
+    }
+
+    public void invalidate(@NonNull String label) {
+        final LabelEntries entries = this.labelEntries.get(label);
+
+        if (entries != null) {
+            synchronized (entries) {
+                entries.version++;
+                entries.ids.clear();
+            }
+        }
+    }
+
+    public void clear() {
+        this.labelEntries.keySet().forEach(this::invalidate);
+    }
+
+    public Map<String, GremlinDomainCacheStats> getStats() {
+        final Map<String, GremlinDomainCacheStats> stats = new HashMap<>();
+
+        this.labelEntries.forEach((label, entries) -> stats.put(label, entries.ids.getStats()));
+
+        return stats;
+    }
+
+    private static Object toKey(@NonNull List<String> queries, @NonNull Map<String, Object> bindings) {
+        return bindings.isEmpty() ? queries : new QueryKey(queries, bindings);
+    }
+
+    private static final class LabelEntries {
+
+        private final GremlinDomainCache ids;
+
+        private long version;
+
+        private LabelEntries(@NonNull GremlinDomainCache ids) {
+            this.ids = ids;
+        }
+    }
+
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class QueryKey {
+
+        private final List<String> queries;
+
+        private final Map<String, Object> bindings;
+    }
+}
@@ -7,13 +7,27 @@
 package com.microsoft.spring.data.gremlin.query;
 
 
+import com.microsoft.spring.data.gremlin.annotation.DomainCache;
 import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
 import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
 import com.microsoft.spring.data.gremlin.annotation.GeneratedValue;
 import com.microsoft.spring.data.gremlin.common.GremlinEntityType;
 import com.microsoft.spring.data.gremlin.common.GremlinFactory;
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.common.LazyVertexProxy;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan.PropertyPlan;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.common.GremlinCachePolicy;
+import com.microsoft.spring.data.gremlin.common.GremlinConfig;
+import com.microsoft.spring.data.gremlin.common.GremlinDomainCache;
+import com.microsoft.spring.data.gremlin.common.GremlinDomainCacheFactory;
+import com.microsoft.spring.data.gremlin.common.GremlinDomainCacheStats;
+import com.microsoft.spring.data.gremlin.common.GremlinExecutor;
+import com.microsoft.spring.data.gremlin.common.GremlinExecutorMetrics;
+import com.microsoft.spring.data.gremlin.conversion.script.AbstractGremlinScriptLiteral;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteral;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralEdge;
 import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralGraph;
@@ -22,61 +36,124 @@ import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceGraph;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.microsoft.spring.data.gremlin.exception.GremlinEdgeBatchException;
 import com.microsoft.spring.data.gremlin.exception.GremlinEntityInformationException;
 import com.microsoft.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
 import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
 import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentEntity;
 import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.query.query.QueryCountScriptGenerator;
 import com.microsoft.spring.data.gremlin.query.query.QueryFindScriptGenerator;
 import com.microsoft.spring.data.gremlin.query.query.QueryScriptGenerator;
 import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
-import org.apache.commons.lang3.reflect.FieldUtils;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.Collectors;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_INVOKE;
 import static java.util.stream.Collectors.toList;
 
 
-public class GremlinTemplate implements GremlinOperations, ApplicationContextAware {
+public class GremlinTemplate implements GremlinOperations, ApplicationContextAware, DisposableBean {
+
+    /**
+     * Estimate the length of the script and bindings of the element at the given index of a batch.
+     */
+    @FunctionalInterface
+    private interface BatchElementEstimator<T> {
+        int estimate(GremlinSource<T> source, int index);
+    }
+
+    /**
+     * Write a batch, the sources are the ones from offset of all the sources to write.
+     */
+    @FunctionalInterface
+    private interface BatchWriter<T> {
+        CompletableFuture<List<Object>> write(int batch, int offset, List<GremlinSource<T>> sources);
+    }
 
     private final GremlinFactory factory;
     private final MappingGremlinConverter mappingConverter;
+    private final boolean scriptBindingsEnabled;
+    private final GremlinExecutor executor;
+    private final int batchSize;
+    private final int batchContentLength;
+    private final int batchParallelism;
+    private final GremlinCachePolicy cachePolicy;
+    private final GremlinQueryCache queryCache;
+    private final Map<ReadKey, CompletableFuture<Object>> inFlightReads = new ConcurrentHashMap<>();
+
+    private final DomainCaches vertexCaches = new DomainCaches();
+    private final DomainCaches edgeCaches = new DomainCaches();
 
     private Client gremlinClient;
     private ApplicationContext context;
-
-    //static final int numberOfVirtualCPUs = 4;
-    static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
-        Runtime.getRuntime().availableProcessors());
+    private volatile GremlinDomainCacheFactory domainCacheFactory;
 
     static Logger logger = LoggerFactory.getLogger(GremlinTemplate.class);
 
-    Map<Object, Object> idToDomainVertices = new ConcurrentHashMap<>();
-    Map<Object, Object> idToDomainEdges = new ConcurrentHashMap<>();
-
 
     public GremlinTemplate(@NonNull GremlinFactory factory, @NonNull MappingGremlinConverter converter) {
+        this(factory, converter, null);
+    }
+
+    /**
+     * @param executor runs the queries, a bounded pool is created from {@link GremlinConfig} when null.
+     */
+    public GremlinTemplate(@NonNull GremlinFactory factory, @NonNull MappingGremlinConverter converter,
+                           @Nullable Executor executor) {
         this.factory = factory;
         this.mappingConverter = converter;
+
+        final GremlinConfig config = factory.getGremlinConfig();
+
+        this.scriptBindingsEnabled = config != null && config.isScriptBindingsEnabled();
+        this.batchSize = config == null ? Constants.DEFAULT_BATCH_SIZE : config.getBatchSize();
+        this.batchContentLength = (config == null ? Constants.DEFAULT_MAX_CONTENT_LENGTH : config.getMaxContentLength())
+            - Constants.BATCH_CONTENT_RESERVED_LENGTH;
+        this.batchParallelism = config == null ? Constants.DEFAULT_EXECUTOR_POOL_SIZE : config.getExecutorPoolSize();
+        this.domainCacheFactory = GremlinDomainCacheFactory.fromConfig(config);
+        this.cachePolicy = config == null || config.getDomainCachePolicy() == null ?
+            GremlinCachePolicy.INVALIDATE_ON_WRITE : config.getDomainCachePolicy();
+        this.queryCache = config != null && config.isQueryCacheEnabled() ?
+            new GremlinQueryCache(config.getQueryCacheMaxSize(), config.getQueryCacheExpireAfterWrite()) : null;
+
+        if (executor == null) {
+            this.executor = GremlinExecutor.create(config);
+        } else {
+            this.executor = new GremlinExecutor(executor, config == null ? null : config.getExecutorRejectionPolicy());
+        }
     }
 
     @Override
@@ -89,8 +166,126 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
     }
 
     public void clearDomainCache() {
-        this.idToDomainEdges.clear();
-        this.idToDomainVertices.clear();
+        this.edgeCaches.clear();
+        this.vertexCaches.clear();
+
+        if (this.queryCache != null) {
+            this.queryCache.clear();
+        }
+    }
+
+    /**
+     * Get the statistics of the query cache of every label queried so far, empty if the query cache is disabled.
+     */
+    public Map<String, GremlinDomainCacheStats> getQueryCacheStats() {
+        return this.queryCache == null ? Collections.emptyMap() : this.queryCache.getStats();
+    }
+
+    /**
+     * Invalidate the cached derived queries of the label of source, or all of them for a graph. The reads of the
+     * domain class in flight are not joined anymore, so a read following the write sees it.
+     */
+    protected <T> void invalidateReads(@NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            this.inFlightReads.clear();
+        } else {
+            this.inFlightReads.keySet().removeIf(key -> key.domainClass == source.getDomainClass());
+        }
+
+        if (this.queryCache == null) {
+            return;
+        } else if (source instanceof GremlinSourceGraph) {
+            this.queryCache.clear();
+        } else if (source.getLabel() != null) {
+            this.queryCache.invalidate(source.getLabel());
+        }
+    }
+
+    /**
+     * Run the read, or join the identical read of the domain class already in flight, so concurrent callers share
+     * one query. The failure of the read is thrown to all of them.
+     */
+    @SuppressWarnings("unchecked")
+    private <T, R> R readOnce(@NonNull GremlinSource<T> source, @NonNull Object key, @NonNull Supplier<R> read) {
+        final ReadKey readKey = new ReadKey(source.getDomainClass(), key);
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight = this.inFlightReads.putIfAbsent(readKey, future);
+
+        if (inFlight != null) {
+            try {
+                return (R) inFlight.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+
+                throw new GremlinQueryException("unable to complete query from gremlin", cause);
+            }
+        }
+
+        try {
+            final R result = read.get();
+
+            future.complete(result);
+
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+
+            throw e;
+        } finally {
+            this.inFlightReads.remove(readKey, future);
+        }
+    }
+
+    /**
+     * Replace the caches of every domain class by the ones of given factory, the cached domains are dropped.
+     */
+    public void setDomainCacheFactory(@NonNull GremlinDomainCacheFactory domainCacheFactory) {
+        this.domainCacheFactory = domainCacheFactory;
+
+        this.edgeCaches.reset();
+        this.vertexCaches.reset();
+    }
+
+    /**
+     * Get the cache of the domains recovered for the given vertex or edge class.
+     */
+    public GremlinDomainCache getDomainCache(@NonNull Class<?> domainClass) {
+        final DomainCaches caches = this.getDomainCaches(GremlinUtils.toGremlinSource(domainClass));
+
+        if (caches == null) {
+            throw new GremlinUnexpectedEntityTypeException("only vertex or edge domains are cached");
+        }
+
+        return caches.getDomains(domainClass);
+    }
+
+    /**
+     * Get the statistics of the domain cache of every vertex and edge class used so far.
+     */
+    public Map<Class<?>, GremlinDomainCacheStats> getDomainCacheStats() {
+        final Map<Class<?>, GremlinDomainCacheStats> stats = new HashMap<>();
+
+        this.vertexCaches.domains.forEach((domainClass, cache) -> stats.put(domainClass, cache.getStats()));
+        this.edgeCaches.domains.forEach((domainClass, cache) -> stats.put(domainClass, cache.getStats()));
+
+        return stats;
+    }
+
+    protected GremlinExecutor getExecutor() {
+        return this.executor;
+    }
+
+    public GremlinExecutorMetrics getExecutorMetrics() {
+        return this.executor.getMetrics();
+    }
+
+    @Override
+    public void destroy() {
+        this.executor.shutdown();
     }
 
     @Override
@@ -106,60 +301,193 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         return this.gremlinClient;
     }
 
+    /**
+     * Create the holder of the values referenced by the scripts of one operation, values are bound as
+     * parameters only when script bindings are enabled in {@link GremlinConfig}.
+     */
+    protected GremlinScriptBindings createScriptBindings() {
+        return this.scriptBindingsEnabled ? GremlinScriptBindings.parameterized() : GremlinScriptBindings.inline();
+    }
+
     @NonNull
     public List<Result> executeQuery(@NonNull List<String> queries) {
-        return executeQueryUsingExecutorService(queries);
-//        final List<List<String>> parallelQueries = GremlinUtils.toParallelQueryList(queries);
-//
-//        return parallelQueries.stream().flatMap(q -> executeQueryParallel(q).stream()).collect(Collectors.toList());
+        return executeQuery(queries, Collections.emptyMap());
+    }
+
+    @NonNull
+    public List<Result> executeQuery(@NonNull List<String> queries, @NonNull Map<String, Object> bindings) {
+        return executeQueryUsingExecutorService(queries, bindings);
+    }
+
+    protected List<Result>  executeQueryUsingExecutorService(@NonNull List<String> queries) {
+        return executeQueryUsingExecutorService(queries, Collections.emptyMap());
     }
 
-//    @NonNull
-//    private List<Result> executeQueryParallel(@NonNull List<String> queries) {
-//        return queries.parallelStream()
-//            .map(q -> getGremlinClient().submit(q).all())
-//            .collect(toList()).parallelStream().flatMap(f -> {
-//                try {
-//                    return f.get().stream();
-//                } catch (InterruptedException | ExecutionException e) {
-//                    throw new GremlinQueryException("unable to complete query from gremlin", e);
-//                }
-//            })
-//            .collect(toList());
-//    }
+    /**
+     * Execute the queries stage by stage, stages are separated by {@link Constants#GREMLIN_QUERY_BARRIER}.
+     * The queries of one stage are submitted in parallel, and next stage starts only after all of them
+     * completed, like edges have to wait for their vertices.
+     */
+    protected List<Result> executeQueryUsingExecutorService(@NonNull List<String> queries,
+                                                            @NonNull Map<String, Object> bindings) {
+        final List<Result> results = new ArrayList<>(queries.size());
+
+        for (final List<String> stage : GremlinUtils.toParallelQueryList(queries)) {
+            results.addAll(executeStage(stage, bindings));
+        }
+
+        return results;
+    }
 
+    /**
+     * Execute the queries of one stage in parallel. The first failure completes the stage exceptionally
+     * without waiting for the others, and the queries not yet started are cancelled.
+     */
+    private List<Result> executeStage(@NonNull List<String> queries, @NonNull Map<String, Object> bindings) {
+        if (queries.isEmpty()) {
+            return Collections.emptyList();
+        }
 
+        final CompletableFuture<Void> failure = new CompletableFuture<>();
+        final List<CompletableFuture<List<Result>>> futures = new ArrayList<>(queries.size());
 
-    protected List<Result>  executeQueryUsingExecutorService(@NonNull List<String> queries) {
-        final List<CompletableFuture<List<Result>>> futures =
-            queries.stream()
-                .map(query -> CompletableFuture.supplyAsync(() ->
-                {
-                    logger.info("Thread: {}, Executing Query: {}",
-                        Thread.currentThread().getName(),
-                        query);
-                    return this.getGremlinClient().submit(query).all().join();
-                }, EXECUTOR))
-                .collect(Collectors.toList());
-
-        final List<List<Result>> collect =
-            futures.stream().map(CompletableFuture::join)
-                .collect(Collectors.toList());
+        try {
+            for (final String query : queries) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                    logger.info("Thread: {}, Executing Query: {}", Thread.currentThread().getName(), query);
+                    return submitQuery(query, bindings).join();
+                }, this.executor));
+            }
+        } catch (RejectedExecutionException e) {
+            futures.forEach(f -> f.cancel(false));
+
+            throw new GremlinQueryException("unable to submit query to saturated executor", e);
+        }
+
+        futures.forEach(f -> f.whenComplete((r, e) -> {
+            if (e != null) {
+                failure.completeExceptionally(e);
+            }
+        }));
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])), failure).join();
+        } catch (CompletionException | CancellationException e) {
+            futures.forEach(f -> f.cancel(false));
+
+            final Throwable cause = e.getCause() == null ? e : e.getCause();
+
+            throw new GremlinQueryException("unable to complete query from gremlin", cause);
+        }
 
         final List<Result> results = new ArrayList<>(queries.size());
-        collect.forEach(resultList -> results.addAll(resultList));
+        futures.forEach(f -> results.addAll(f.join()));
 
         return results;
     }
 
+    /**
+     * Submit one query and return the future of all its results.
+     */
+    protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                          @NonNull Map<String, Object> bindings) {
+        return this.submitAsync(query, bindings).thenCompose(ResultSet::all);
+    }
+
+    /**
+     * Submit one query and iterate its results as they are read from the server, blocking until the next one
+     * arrives.
+     */
+    protected Iterator<Result> submitStream(@NonNull String query, @NonNull Map<String, Object> bindings) {
+        return this.submit(query, bindings).iterator();
+    }
+
+    /**
+     * Submit one query and return the future of its {@link ResultSet}, which completes before the results
+     * arrive so they can be read as they are streamed from the server.
+     */
+    protected CompletableFuture<ResultSet> submitAsync(@NonNull String query, @NonNull Map<String, Object> bindings) {
+        if (bindings.isEmpty()) {
+            return this.getGremlinClient().submitAsync(query);
+        }
+
+        return this.getGremlinClient().submitAsync(query, bindings);
+    }
+
+    /**
+     * Same as {@link #executeQuery(List, Map)} without blocking the caller, the stages are chained on the
+     * futures of the driver instead of the executor threads.
+     */
+    @NonNull
+    protected CompletableFuture<List<Result>> executeQueryAsync(@NonNull List<String> queries,
+                                                                @NonNull Map<String, Object> bindings) {
+        CompletableFuture<List<Result>> future = CompletableFuture.completedFuture(new ArrayList<>(queries.size()));
+
+        for (final List<String> stage : GremlinUtils.toParallelQueryList(queries)) {
+            future = future.thenCompose(results -> executeStageAsync(stage, bindings).thenApply(stageResults -> {
+                results.addAll(stageResults);
+                return results;
+            }));
+        }
+
+        return future.handle((results, e) -> {
+            if (e != null) {
+                final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+                throw new GremlinQueryException("unable to complete query from gremlin", cause);
+            }
+
+            return results;
+        });
+    }
+
+    private CompletableFuture<List<Result>> executeStageAsync(@NonNull List<String> queries,
+                                                              @NonNull Map<String, Object> bindings) {
+        final CompletableFuture<Void> failure = new CompletableFuture<>();
+        final List<CompletableFuture<List<Result>>> futures = new ArrayList<>(queries.size());
+
+        for (final String query : queries) {
+            final CompletableFuture<List<Result>> future = this.submitQuery(query, bindings);
+
+            future.whenComplete((r, e) -> {
+                if (e != null) {
+                    failure.completeExceptionally(e);
+                }
+            });
+            futures.add(future);
+        }
+
+        final CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+
+        return CompletableFuture.anyOf(all, failure).thenApply(v -> {
+            final List<Result> results = new ArrayList<>(queries.size());
+
+            futures.forEach(f -> results.addAll(f.join()));
+
+            return results;
+        });
+    }
+
+    private ResultSet submit(@NonNull String query, @NonNull Map<String, Object> bindings) {
+        if (bindings.isEmpty()) {
+            return this.getGremlinClient().submit(query);
+        }
+
+        return this.getGremlinClient().submit(query, bindings);
+    }
+
     /**
      * This method execuates a query expected to return a long value.
      * @param query The query such as a count query.
      * @return The long value of the {@link Result} returned from the query.
      */
     public long executeLongQuery(@NonNull String query) {
+        return executeLongQuery(query, Collections.emptyMap());
+    }
+
+    public long executeLongQuery(@NonNull String query, @NonNull Map<String, Object> bindings) {
         try {
-            final Result result = this.getGremlinClient().submit(query).one();
+            final Result result = submit(query, bindings).one();
             return result.getLong();
         } catch (Throwable e) {
             throw new GremlinQueryException(String
@@ -184,17 +512,23 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         executeQuery(source.getGremlinScriptLiteral().generateDeleteAllScript());
 
         if (source instanceof GremlinSourceEdge) {
-            this.idToDomainEdges.clear();
+            this.edgeCaches.clear();
         } else if (source instanceof GremlinSourceVertex) {
-            this.idToDomainVertices.clear();
+            this.vertexCaches.clear();
         } else if (source instanceof GremlinSourceGraph) {
             clearDomainCache();
         }
+
+        if (this.queryCache != null) {
+            this.queryCache.clear(); // The labels of the type are not known.
+        }
     }
 
     @Override
     public <T> void deleteAll(GremlinSource<T> source) {
         executeQuery(source.getGremlinScriptLiteral().generateDeleteAllByClassScript(source));
+
+        this.clearCachedDomains(source);
     }
 
     public <T> void deleteAll(@NonNull Class<T> domainClass) {
@@ -204,56 +538,37 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
 
         this.executeQuery(queryList);
 
-        if (source instanceof GremlinSourceEdge)
-        {
-            final List<Object> toRemove = new ArrayList<>();
-
-            this.idToDomainEdges.forEach((o, o2) -> {
-                if (o2.getClass().equals(domainClass))
-                {
-                    toRemove.add(o2);
-                }
-            });
-
-            toRemove.forEach(o -> this.idToDomainEdges.remove(info.getId(o)));
-
-        }
-        else if (source instanceof GremlinSourceVertex)
-        {
-            final List<Object> toRemove = new ArrayList<>();
-
-            this.idToDomainVertices.forEach((o, o2) -> {
-                if (o2.getClass().equals(domainClass))
-                {
-                    toRemove.add(o2);
-                }
-            });
-
-            toRemove.forEach(o -> this.idToDomainVertices.remove(info.getId(o)));
-
-        }
-        else if (source instanceof GremlinSourceGraph)
-        {
-           clearDomainCache();
+        if (source instanceof GremlinSourceGraph) {
+            clearDomainCache();
+        } else {
+            this.clearCachedDomains(source);
         }
     }
 
     private <T> List<Result> insertInternal(@NonNull T object, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+
         this.mappingConverter.write(object, source);
 
-        return executeQuery(source.getGremlinScriptLiteral().generateInsertScript(source));
-    }
+        final List<String> queryList = source.getGremlinScriptLiteral().generateInsertScript(source, bindings);
 
+        return executeQuery(queryList, bindings.getBindings());
+    }
 
-    @Override
-    public <T> T insert(@NonNull T object, GremlinSource<T> source) {
-        final boolean entityGraph = source instanceof GremlinSourceGraph;
 
-        if (!entityGraph && source.getIdField().isAnnotationPresent(GeneratedValue.class)
+    protected <T> void checkInsertable(@NonNull GremlinSource<T> source) {
+        if (!(source instanceof GremlinSourceGraph) && source.getIdField().isAnnotationPresent(GeneratedValue.class)
             && source.getId().isPresent()) {
             throw new GremlinInvalidEntityIdFieldException("The entity meant to be created has a non-null id "
                 + "that is marked as @GeneratedValue");
         }
+    }
+
+    @Override
+    public <T> T insert(@NonNull T object, GremlinSource<T> source) {
+        final boolean entityGraph = source instanceof GremlinSourceGraph;
+
+        this.checkInsertable(source);
 
         // The current implementation doesn't support creating graphs that contain both edges
         // and vertices that have null (generated) ids. In this case, vertex and edge creation
@@ -262,6 +577,8 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
 
         final List<Result> results = insertInternal(object, source);
 
+        this.invalidateReads(source);
+
         if (!results.isEmpty()) {
             if (entityGraph) {
                 return recoverGraphDomain((GremlinSourceGraph<T>) source, results);
@@ -283,26 +600,52 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         throw new GremlinUnexpectedEntityTypeException("should be vertex domain for findVertexById");
     }
 
-    private Object getEdgeAnnotatedFieldValue(@NonNull Field field, @NonNull Object vertexId) {
-        if (field.getType() == String.class || field.getType() == Long.class || field.getType() == Integer.class) {
+    static boolean isVertexIdField(@NonNull Field field) {
+        return field.getType() == String.class || field.getType() == Long.class || field.getType() == Integer.class;
+    }
+
+    /**
+     * The vertex is taken from the given vertices found beforehand, or else the cached ones. The vertices found
+     * beforehand for the class of field are complete, the vertex missing from them doesn't exist and is not queried.
+     */
+    @Nullable
+    private Object getEdgeAnnotatedFieldValue(@NonNull Field field, @NonNull Object vertexId,
+                                              @NonNull Map<Class<?>, Map<String, Object>> vertices) {
+        if (isVertexIdField(field)) {
             return vertexId;
         } else if (field.getType().isPrimitive()) {
             throw new GremlinUnexpectedEntityTypeException("only String/Long/Integer type of Id Field is allowed");
-        } else {
-            return this.findVertexById(vertexId, GremlinUtils.toGremlinSource(field.getType()));
         }
+
+        final Map<String, Object> found = vertices.get(field.getType());
+        final Object vertex = found == null ? null : found.get(String.valueOf(vertexId));
+        final Object cachedVertex = vertex == null ? this.vertexCaches.getDomain(field.getType(), vertexId) : vertex;
+
+        if (cachedVertex != null || found != null && !isLazyVertexField(field)) {
+            return cachedVertex;
+        } else if (isLazyVertexField(field)) {
+            @SuppressWarnings("unchecked") final Class<Object> type = (Class<Object>) field.getType();
+            final GremlinSource<Object> source = GremlinUtils.toGremlinSource(type);
+
+            // Blocking on first access whichever template found the edge, see EdgeFrom#lazy.
+            return LazyVertexProxy.create(type, vertexId, () -> this.findVertexById(vertexId, source));
+        }
+
+        return this.findVertexById(vertexId, GremlinUtils.toGremlinSource(field.getType()));
     }
 
     @NonNull
-    private Field getEdgeAnnotatedField(@NonNull Class<?> domainClass,
+    private PropertyPlan getEdgeAnnotatedField(@NonNull Class<?> domainClass,
         @NonNull Class<? extends Annotation> annotationClass) {
-        final List<Field> fields = FieldUtils.getFieldsListWithAnnotation(domainClass, annotationClass);
+        final GremlinMappingPlan mappingPlan = this.mappingConverter.getMappingPlan(domainClass);
+        final PropertyPlan plan = annotationClass == EdgeFrom.class ?
+            mappingPlan.getEdgeFrom() : mappingPlan.getEdgeTo();
 
-        if (fields.size() != 1) {
+        if (plan == null) {
             throw new GremlinEntityInformationException("should be only one Annotation");
         }
 
-        return fields.get(0);
+        return plan;
     }
 
     /**
@@ -310,114 +653,508 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
      * This function will do that and make edge domain completion.
      */
     protected <T> void completeEdge(@NonNull T domain, @NonNull GremlinSourceEdge source) {
-        final Object cachedSourceVertex = this.idToDomainVertices.get(source.getVertexIdFrom());
-        final Object cachedTargetVertex = this.idToDomainVertices.get(source.getVertexIdTo());
+        this.completeEdge(domain, source, Collections.emptyMap());
+    }
 
+    /**
+     * Complete the edge domain with the given vertices found beforehand, or else the cached ones, only the
+     * vertices found nowhere are queried.
+     */
+    private <T> void completeEdge(@NonNull T domain, @NonNull GremlinSourceEdge source,
+                                  @NonNull Map<Class<?>, Map<String, Object>> vertices) {
         final ConvertingPropertyAccessor accessor = this.mappingConverter.getPropertyAccessor(domain);
-        final GremlinPersistentEntity persistentEntity = this.mappingConverter.getPersistentEntity(domain.getClass());
 
-        final Field fromField = this.getEdgeAnnotatedField(domain.getClass(), EdgeFrom.class);
-        final Field toField = this.getEdgeAnnotatedField(domain.getClass(), EdgeTo.class);
+        final PropertyPlan fromPlan = this.getEdgeAnnotatedField(domain.getClass(), EdgeFrom.class);
+        final PropertyPlan toPlan = this.getEdgeAnnotatedField(domain.getClass(), EdgeTo.class);
 
-        final PersistentProperty propertyFrom = persistentEntity.getPersistentProperty(fromField.getName());
-        final PersistentProperty propertyTo = persistentEntity.getPersistentProperty(toField.getName());
+        accessor.setProperty(fromPlan.getProperty(),
+            this.getEdgeAnnotatedFieldValue(fromPlan.getField(), source.getVertexIdFrom(), vertices));
+        accessor.setProperty(toPlan.getProperty(),
+            this.getEdgeAnnotatedFieldValue(toPlan.getField(), source.getVertexIdTo(), vertices));
+    }
 
-        Assert.notNull(propertyFrom, "persistence property should not be null");
-        Assert.notNull(propertyTo, "persistence property should not be null");
+    /**
+     * @return true if the vertex of the field is loaded on first access, see {@link EdgeFrom#lazy()}.
+     */
+    static boolean isLazyVertexField(@NonNull Field field) {
+        final EdgeFrom edgeFrom = field.getAnnotation(EdgeFrom.class);
+        final EdgeTo edgeTo = field.getAnnotation(EdgeTo.class);
+        final boolean lazy = (edgeFrom != null && edgeFrom.lazy()) || (edgeTo != null && edgeTo.lazy());
 
-        accessor.setProperty(propertyFrom, cachedSourceVertex == null ?
-            this.getEdgeAnnotatedFieldValue(fromField, source.getVertexIdFrom()) : cachedSourceVertex);
-        accessor.setProperty(propertyTo, cachedTargetVertex == null ?
-            this.getEdgeAnnotatedFieldValue(toField, source.getVertexIdTo()) : cachedTargetVertex);
+        return lazy && !isVertexIdField(field) && LazyVertexProxy.isProxyable(field.getType());
     }
 
-    @Override
-    public <T> T findEdgeById(@NonNull Object id, @NonNull GremlinSource<T> source) {
-        if (source instanceof GremlinSourceEdge) {
-            return this.findById(id, source);
-        }
+    /**
+     * The edge domains refer to their vertices, which are found with one hasId(within(...)) query per vertex
+     * class and batch before mapping, instead of two queries per edge. The cached vertices are not queried.
+     *
+     * @return the vertices found by class, and then by id as String.
+     */
+    private <T> Map<Class<?>, Map<String, Object>> findEdgeVertices(@NonNull GremlinSource<T> source,
+                                                                    @NonNull List<Result> results) {
+        return joinBatch(this.findEdgeVerticesAsync(source, results, true));
+    }
 
-        throw new GremlinUnexpectedEntityTypeException("should be edge domain for findEdge");
+    /**
+     * Non-blocking counterpart of {@link #findEdgeVertices(GremlinSource, List)}, the queries are submitted with
+     * the asynchronous API of the driver and the vertices are mapped in the callbacks of its futures.
+     */
+    protected <T> CompletableFuture<Map<Class<?>, Map<String, Object>>> findEdgeVerticesAsync(
+        @NonNull GremlinSource<T> source, @NonNull List<Result> results) {
+        return this.findEdgeVerticesAsync(source, results, true);
     }
 
-    private <T> T findByIdInternal(@NonNull GremlinSource<T> source) {
-        final Object cachedInstance;
+    /**
+     * @param cached false to map the vertices found without keeping them in the domain cache.
+     */
+    private <T> CompletableFuture<Map<Class<?>, Map<String, Object>>> findEdgeVerticesAsync(
+        @NonNull GremlinSource<T> source, @NonNull List<Result> results, boolean cached) {
+        final Map<Class<?>, Set<Object>> vertexIds = this.getEdgeVertexIds(source, results);
+        final Map<Class<?>, Map<String, Object>> vertices = new HashMap<>();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        vertexIds.forEach((type, ids) -> {
+            @SuppressWarnings("unchecked") final GremlinEntityInformation<Object, Object> info =
+                GremlinEntityInformation.get(type);
+            final Map<String, Object> found = new ConcurrentHashMap<>();
+            final List<Object> missingIds = new ArrayList<>();
+
+            for (final Object id : ids) {
+                final Object cachedVertex = this.vertexCaches.getDomain(type, id);
+
+                if (cachedVertex == null) {
+                    missingIds.add(id);
+                } else {
+                    found.put(String.valueOf(id), cachedVertex);
+                }
+            }
 
-        final Object id = source.getId().get();
+            for (int i = 0; i < missingIds.size(); i += this.batchSize) {
+                final List<Object> batchIds = missingIds.subList(i, Math.min(i + this.batchSize, missingIds.size()));
+                final GremlinSource<Object> vertexSource = info.createGremlinSource();
+                final GremlinScriptBindings bindings = this.createScriptBindings();
+                final List<String> queryList =
+                    vertexSource.getGremlinScriptLiteral().generateFindAllByIdScript(vertexSource, batchIds, bindings);
+
+                futures.add(this.executeQueryAsync(queryList, bindings.getBindings()).thenAccept(vertexResults -> {
+                    for (final Result result : vertexResults) {
+                        final List<Result> vertexResult = Collections.singletonList(result);
+                        final Object vertex = cached ? this.recoverDomain(vertexSource, vertexResult) :
+                            this.readDomain(vertexSource, vertexResult, Collections.emptyMap());
+
+                        found.put(String.valueOf(vertexSource.getId().get()), vertex);
+                    }
+                }));
+            }
 
-        if (source instanceof GremlinSourceEdge) {
-            cachedInstance = idToDomainEdges.get(id);
-        } else if (source instanceof GremlinSourceVertex) {
-            cachedInstance = idToDomainVertices.get(id);
-        } else {
-            cachedInstance = null;
+            vertices.put(type, found);
+        });
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(v -> vertices);
+    }
+
+    /**
+     * @return the ids of the vertices the edge results refer to by vertex class, except the lazy vertices and
+     * the ones mapped as id only.
+     */
+    private <T> Map<Class<?>, Set<Object>> getEdgeVertexIds(@NonNull GremlinSource<T> source,
+                                                            @NonNull List<Result> results) {
+        if (!(source instanceof GremlinSourceEdge) || results.isEmpty()) {
+            return Collections.emptyMap();
         }
 
-        if (cachedInstance == null) {
+        final GremlinSourceEdge<T> sourceEdge = (GremlinSourceEdge<T>) source;
+        final Field fromField = this.getEdgeAnnotatedField(source.getDomainClass(), EdgeFrom.class).getField();
+        final Field toField = this.getEdgeAnnotatedField(source.getDomainClass(), EdgeTo.class).getField();
+        final boolean fromVertex = !isVertexIdField(fromField) && !fromField.getType().isPrimitive()
+            && !isLazyVertexField(fromField);
+        final boolean toVertex = !isVertexIdField(toField) && !toField.getType().isPrimitive()
+            && !isLazyVertexField(toField);
+        final Map<Class<?>, Set<Object>> vertexIds = new LinkedHashMap<>();
+
+        if (!fromVertex && !toVertex) {
+            return Collections.emptyMap();
+        }
 
-            final List<String> queryList =
-                source.getGremlinScriptLiteral().generateFindByIdScript(source);
-            final List<Result> results = this.executeQuery(queryList);
+        for (final Result result : results) {
+            source.doGremlinResultRead(Collections.singletonList(result));
 
-            if (results.isEmpty()) {
-                return null;
+            if (fromVertex) {
+                vertexIds.computeIfAbsent(fromField.getType(), t -> new LinkedHashSet<>())
+                    .add(sourceEdge.getVertexIdFrom());
             }
 
-            return recoverDomain(source, results);
-
-        } else {
-            return (T) cachedInstance;
+            if (toVertex) {
+                vertexIds.computeIfAbsent(toField.getType(), t -> new LinkedHashSet<>())
+                    .add(sourceEdge.getVertexIdTo());
+            }
         }
 
+        return vertexIds;
     }
 
     @Override
-    public <T> T findById(@NonNull Object id, @NonNull GremlinSource<T> source) {
-        if (source instanceof GremlinSourceGraph) {
-            throw new UnsupportedOperationException("Gremlin graph cannot be findById.");
+    public <T> T findEdgeById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceEdge) {
+            return this.findById(id, source);
         }
 
-        source.setId(id);
+        throw new GremlinUnexpectedEntityTypeException("should be edge domain for findEdge");
+    }
 
-        return findByIdInternal(source);
+    @Nullable
+    private <T> DomainCaches getDomainCaches(@NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceEdge) {
+            return this.edgeCaches;
+        } else if (source instanceof GremlinSourceVertex) {
+            return this.vertexCaches;
+        } else {
+            return null;
+        }
     }
 
+    /**
+     * Get the domain already recovered for the id of given source, or null if not cached.
+     */
+    protected <T> Object getCachedDomain(@NonNull GremlinSource<T> source, @NonNull Object id) {
+        final DomainCaches caches = this.getDomainCaches(source);
 
-    private <T> T updateInternal(@NonNull T object, @NonNull GremlinSource<T> source) {
-        this.mappingConverter.write(object, source);
+        if (caches == null || this.getCachePolicy(source) == GremlinCachePolicy.NONE) {
+            return null;
+        }
 
-        final List<String> queryList = source.getGremlinScriptLiteral().generateUpdateScript(source);
+        return caches.getDomains(source.getDomainClass()).get(id);
+    }
 
-        executeQuery(queryList);
+    /**
+     * Get the policy of the {@link DomainCache} annotation of the domain class, or else the one of the config.
+     */
+    private <T> GremlinCachePolicy getCachePolicy(@NonNull GremlinSource<T> source) {
+        final DomainCache domainCache = GremlinEntityInformation.get(source.getDomainClass()).getDomainCache();
 
-        return object;
+        return domainCache == null ? this.cachePolicy : domainCache.policy();
     }
 
+    /**
+     * Evict both the domain and the snapshot of its properties, as the entity is changed or deleted. The cached
+     * queries of its label are invalidated.
+     */
+    protected <T> void evictCachedDomain(@NonNull GremlinSource<T> source, @NonNull Object id) {
+        final DomainCaches caches = this.getDomainCaches(source);
+
+        if (caches != null) {
+            caches.getDomains(source.getDomainClass()).evict(id);
+            caches.getSnapshots(source.getDomainClass()).evict(id);
+        }
+
+        this.invalidateReads(source);
+    }
+
+    /**
+     * Apply the {@link GremlinCachePolicy} to the domain just written with the given id, the snapshot of its
+     * properties is evicted as the written ones may differ, and the cached queries of its label are invalidated.
+     */
+    protected <T> void cacheWrittenDomain(@NonNull GremlinSource<T> source, @NonNull Object id,
+                                          @NonNull Object domain) {
+        final DomainCaches caches = this.getDomainCaches(source);
+
+        this.invalidateReads(source);
+
+        if (caches == null) {
+            return;
+        }
+
+        switch (this.getCachePolicy(source)) {
+            case WRITE_THROUGH:
+                caches.getDomains(source.getDomainClass()).put(id, domain);
+                break;
+            case INVALIDATE_ON_WRITE:
+                caches.getDomains(source.getDomainClass()).evict(id);
+                break;
+            case READ_THROUGH:
+            case NONE:
+            default:
+                break;
+        }
+
+        caches.getSnapshots(source.getDomainClass()).evict(id);
+    }
+
+    protected <T> void evictCachedDomains(@NonNull GremlinSource<T> source, @NonNull Collection<Object> ids) {
+        final DomainCaches caches = this.getDomainCaches(source);
+
+        if (caches != null) {
+            caches.getDomains(source.getDomainClass()).evictAll(ids);
+            caches.getSnapshots(source.getDomainClass()).evictAll(ids);
+        }
+
+        this.invalidateReads(source);
+    }
+
+    protected <T> void clearCachedDomains(@NonNull GremlinSource<T> source) {
+        final DomainCaches caches = this.getDomainCaches(source);
+
+        if (caches != null) {
+            caches.getDomains(source.getDomainClass()).clear();
+            caches.getSnapshots(source.getDomainClass()).clear();
+        }
+
+        this.invalidateReads(source);
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    protected <T> Map<String, Object> getSnapshot(@NonNull GremlinSource<T> source, @NonNull Object id) {
+        final DomainCaches caches = this.getDomainCaches(source);
+
+        return caches == null ? null : (Map<String, Object>) caches.getSnapshots(source.getDomainClass()).get(id);
+    }
+
+    /**
+     * Keep the properties of source as the snapshot of its id, converted to the values written into the script.
+     * Nothing is kept for the domains never cached, see {@link GremlinCachePolicy#NONE}.
+     */
+    protected <T> void keepSnapshot(@NonNull GremlinSource<T> source) {
+        final Object id = source.getId().orElse(null);
+        final DomainCaches caches = this.getDomainCaches(source);
+
+        if (id == null || caches == null || this.getCachePolicy(source) == GremlinCachePolicy.NONE) {
+            return;
+        }
+
+        final Map<String, Object> snapshot = new HashMap<>();
+
+        for (final Map.Entry<String, Object> property : source.getProperties().entrySet()) {
+            snapshot.put(property.getKey(), AbstractGremlinScriptLiteral.toScriptValue(property.getValue()));
+        }
+
+        caches.getSnapshots(source.getDomainClass()).put(id, snapshot);
+    }
+
+    /**
+     * Concurrent calls for the same id not cached share one query.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T findByIdInternal(@NonNull GremlinSource<T> source) {
+        final Object id = source.getId().get();
+        final Object cachedInstance = this.getCachedDomain(source, id);
+
+        if (cachedInstance != null) {
+            return (T) cachedInstance;
+        }
+
+        return this.readOnce(source, id, () -> {
+            final GremlinScriptBindings bindings = this.createScriptBindings();
+            final List<String> queryList =
+                source.getGremlinScriptLiteral().generateFindByIdScript(source, bindings);
+            final List<Result> results = this.executeQuery(queryList, bindings.getBindings());
+
+            if (results.isEmpty()) {
+                return null;
+            }
+
+            return recoverDomain(source, results);
+        });
+    }
+
+    @Override
+    public <T> T findById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findById.");
+        }
+
+        source.setId(id);
+
+        return findByIdInternal(source);
+    }
+
+
+    /**
+     * The ids missing from the domain cache are found with one hasId(within(...)) query per batch size of
+     * {@link GremlinConfig}, all of them submitted at once.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> findAllById(@NonNull List<Object> ids, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findAllById.");
+        }
+
+        final Map<String, T> domains = new HashMap<>();
+        final List<Object> missingIds = new ArrayList<>();
+
+        for (final Object id : new LinkedHashSet<>(ids)) {
+            final Object cachedInstance = this.getCachedDomain(source, id);
+
+            if (cachedInstance == null) {
+                missingIds.add(id);
+            } else {
+                domains.put(String.valueOf(id), (T) cachedInstance);
+            }
+        }
+
+        final List<CompletableFuture<List<Result>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < missingIds.size(); i += this.batchSize) {
+            final List<Object> batchIds = missingIds.subList(i, Math.min(i + this.batchSize, missingIds.size()));
+            final GremlinScriptBindings bindings = this.createScriptBindings();
+            final List<String> queryList =
+                source.getGremlinScriptLiteral().generateFindAllByIdScript(source, batchIds, bindings);
+
+            futures.add(this.executeQueryAsync(queryList, bindings.getBindings()));
+        }
+
+        for (final CompletableFuture<List<Result>> future : futures) {
+            final List<Result> results = joinBatch(future);
+            final Map<Class<?>, Map<String, Object>> edgeVertices = this.findEdgeVertices(source, results);
+
+            for (final Result result : results) {
+                final T domain = this.recoverDomain(source, Collections.singletonList(result), edgeVertices);
+
+                domains.put(String.valueOf(source.getId().get()), domain);
+            }
+        }
+
+        final List<T> found = new ArrayList<>(ids.size());
+
+        for (final Object id : ids) {
+            final T domain = domains.get(String.valueOf(id));
+
+            if (domain != null) {
+                found.add(domain);
+            }
+        }
+
+        return found;
+    }
+
+    private <T> List<Result> updateInternal(@NonNull T object, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+
+        this.mappingConverter.write(object, source);
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateUpdateScript(source, bindings);
+
+        return executeQuery(queryList, bindings.getBindings());
+    }
+
+    private <T> List<Result> upsertInternal(@NonNull T object, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+
+        this.mappingConverter.write(object, source);
+
+        final List<String> queryList = source.getGremlinScriptLiteral().generateUpsertScript(source, bindings);
+
+        return executeQuery(queryList, bindings.getBindings());
+    }
+
+    /**
+     * The entity with generated id can only be created by the server, so it is never upserted with a given id.
+     */
+    protected <T> boolean isUpsertable(@NonNull GremlinSource<T> source) {
+        return !(source instanceof GremlinSourceGraph)
+            && !source.getIdField().isAnnotationPresent(GeneratedValue.class);
+    }
+
+    @Override
+    public <T> T update(@NonNull T object, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            this.updateInternal(object, source);
+            this.invalidateReads(source);
+
+            return object;
+        }
 
-    @Override
-    public <T> T update(@NonNull T object, @NonNull GremlinSource<T> source) {
         final Optional<Object> optional = source.getId();
 
-        if (!(source instanceof GremlinSourceGraph)
-            && (!optional.isPresent() || notExistsById(optional.get(), source))) {
+        // The update traversal starts from the entity of given id, so nothing returns if it doesn't exist.
+        if (!optional.isPresent() || this.updateInternal(object, source).isEmpty()) {
             throw new GremlinQueryException("cannot update the object doesn't exist");
         }
 
-        return this.updateInternal(object, source);
+        this.cacheWrittenDomain(source, optional.get(), object);
+        this.keepSnapshot(source);
+
+        return object;
     }
 
+    /**
+     * Only the properties changed since the domain was read or written are sent. An unchanged domain costs one
+     * limit(1).count() query checking it still exists, it is recreated if not.
+     */
     @Override
     public <T> T save(@NonNull T object, @NonNull GremlinSource<T> source) {
         final Optional<Object> optional = source.getId();
-        final boolean entityGraph = source instanceof GremlinSourceGraph;
 
-        if (entityGraph && this.isEmptyGraph(source)) {
-            return insert(object, source);
-        } else if (!entityGraph && (!optional.isPresent() || notExistsById(optional.get(), source))) {
+        if (source instanceof GremlinSourceGraph) {
+            if (this.isEmptyGraph(source)) {
+                return insert(object, source);
+            }
+
+            this.updateInternal(object, source);
+            this.invalidateReads(source);
+
+            return object;
+        } else if (!optional.isPresent()) {
             return insert(object, source);
-        } else {
-            return updateInternal(object, source);
+        } else if (this.updateChanged(object, source)) {
+            return object;
+        } else if (this.isUpsertable(source)) {
+            this.upsertInternal(object, source);
+        } else if (this.updateInternal(object, source).isEmpty()) {
+            this.checkInsertable(source);
         }
+
+        this.cacheWrittenDomain(source, optional.get(), object);
+        this.keepSnapshot(source);
+
+        return object;
+    }
+
+    /**
+     * Update only the properties changed from the snapshot of the id. If none changed, only the existence of the
+     * entity is checked, as it may have been dropped along with its vertex or by another client since the snapshot.
+     *
+     * @return false if there is no snapshot or the entity doesn't exist anymore, then all the properties
+     * should be written.
+     */
+    private <T> boolean updateChanged(@NonNull T object, @NonNull GremlinSource<T> source) {
+        final Object id = source.getId().get();
+        final Map<String, Object> snapshot = this.getSnapshot(source, id);
+
+        if (snapshot == null) {
+            return false;
+        }
+
+        source.setSnapshot(snapshot);
+
+        try {
+            this.mappingConverter.write(object, source);
+
+            if (source.getChangedProperties().isEmpty()) {
+                if (this.existsOnServer(source)) {
+                    return true;
+                }
+
+                this.evictCachedDomain(source, id);
+
+                return false;
+            }
+
+            final GremlinScriptBindings bindings = this.createScriptBindings();
+            final List<String> queryList = source.getGremlinScriptLiteral().generateUpdateScript(source, bindings);
+
+            if (this.executeQuery(queryList, bindings.getBindings()).isEmpty()) {
+                return false;
+            }
+        } finally {
+            source.setSnapshot(null);
+        }
+
+        this.cacheWrittenDomain(source, id, object);
+        this.keepSnapshot(source);
+
+        return true;
     }
 
     @Override
@@ -426,8 +1163,9 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
             throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
         }
 
-        final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source);
-        final List<Result> results = executeQuery(queryList);
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source, bindings);
+        final List<Result> results = executeQuery(queryList, bindings.getBindings());
 
         if (results.isEmpty()) {
             return Collections.emptyList();
@@ -436,18 +1174,64 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         return recoverDomainList(source, results);
     }
 
+    @Override
+    public <T> Stream<T> streamAll(@NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be streamAll.");
+        }
+
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source, bindings);
+
+        return this.stream(queryList, bindings.getBindings(), source);
+    }
+
     @Override
     public <T> void deleteById(@NonNull Object id, @NonNull GremlinSource<T> source) {
         source.setId(id);
 
-        final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteByIdScript(source);
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteByIdScript(source, bindings);
 
-        executeQuery(queryList);
+        executeQuery(queryList, bindings.getBindings());
 
-        if (source instanceof GremlinSourceEdge) {
-            this.idToDomainEdges.remove(id);
-        } else if (source instanceof GremlinSourceVertex) {
-            this.idToDomainVertices.remove(id);
+        this.evictCachedDomain(source, id);
+    }
+
+    /**
+     * The ids are dropped with one hasId(within(...)) query per batch size of {@link GremlinConfig}, at most as
+     * many queries as the executor pool size are in flight at once. All the ids are evicted from the domain
+     * cache once done, even if some query failed.
+     */
+    @Override
+    public <T> void deleteAllById(@NonNull List<Object> ids, @NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be deleteAllById.");
+        }
+
+        final List<Object> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        final List<CompletableFuture<List<Result>>> futures = new ArrayList<>();
+        int joined = 0;
+
+        try {
+            for (int i = 0; i < distinctIds.size(); i += this.batchSize) {
+                final List<Object> batchIds = distinctIds.subList(i, Math.min(i + this.batchSize, distinctIds.size()));
+                final GremlinScriptBindings bindings = this.createScriptBindings();
+                final List<String> queryList =
+                    source.getGremlinScriptLiteral().generateDeleteAllByIdScript(source, batchIds, bindings);
+
+                if (futures.size() - joined >= this.batchParallelism) {
+                    joinBatch(futures.get(joined++));
+                }
+
+                futures.add(this.executeQueryAsync(queryList, bindings.getBindings()));
+            }
+
+            for (; joined < futures.size(); joined++) {
+                joinBatch(futures.get(joined));
+            }
+        } finally {
+            this.evictCachedDomains(source, distinctIds);
         }
     }
 
@@ -456,30 +1240,55 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         if (source instanceof GremlinSourceGraph) {
             final GremlinScriptLiteralGraph literalGraph = (GremlinScriptLiteralGraph) source.getGremlinScriptLiteral();
             final List<String> queryList = literalGraph.generateIsEmptyScript();
-            final List<Result> results = this.executeQuery(queryList);
 
-            return results.isEmpty();
+            return this.executeLongQuery(queryList.get(0)) == 0;
         }
 
         throw new GremlinQueryException("only graph domain is allowed.");
     }
 
+    @Override
+    public <T> boolean existsByLabel(@NonNull GremlinSource<T> source) {
+        final List<String> queryList;
+
+        if (source instanceof GremlinSourceVertex) {
+            queryList = new GremlinScriptLiteralVertex().generateExistsByLabelScript(source);
+        } else if (source instanceof GremlinSourceEdge) {
+            queryList = new GremlinScriptLiteralEdge().generateExistsByLabelScript(source);
+        } else {
+            throw new GremlinQueryException("only vertex or edge domain is allowed.");
+        }
+
+        return this.executeLongQuery(queryList.get(0)) > 0;
+    }
+
     @Override
     public long vertexCount() {
         final GremlinScriptLiteral script = new GremlinScriptLiteralVertex();
         final List<String> queryList = script.generateCountScript(new GremlinSourceVertex());
-        final List<Result> results = this.executeQuery(queryList);
 
-        return results.size();
+        return this.executeLongQuery(queryList.get(0));
     }
 
     @Override
     public long edgeCount() {
         final GremlinScriptLiteral script = new GremlinScriptLiteralEdge();
         final List<String> queryList = script.generateCountScript(new GremlinSourceEdge());
-        final List<Result> results = this.executeQuery(queryList);
 
-        return results.size();
+        return this.executeLongQuery(queryList.get(0));
+    }
+
+    /**
+     * Both counts are queries of the same stage, submitted in parallel on the executor.
+     */
+    @Override
+    public long count() {
+        final List<String> queryList = new ArrayList<>();
+
+        queryList.addAll(new GremlinScriptLiteralVertex().generateCountScript(new GremlinSourceVertex()));
+        queryList.addAll(new GremlinScriptLiteralEdge().generateCountScript(new GremlinSourceEdge()));
+
+        return this.executeQuery(queryList).stream().mapToLong(Result::getLong).sum();
     }
 
 
@@ -506,9 +1315,38 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         return this.executeLongQuery(query.get(0));
     }
 
+    @Override
+    public <T> long count(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final QueryScriptGenerator generator = new QueryCountScriptGenerator(source, bindings);
+        final List<String> queryList = generator.generate(query);
 
+        return this.executeLongQuery(queryList.get(0), bindings.getBindings());
+    }
 
     protected <T> T recoverDomain(@NonNull GremlinSource<T> source, @NonNull List<Result> results) {
+        return this.recoverDomain(source, results, Collections.emptyMap());
+    }
+
+    protected <T> T recoverDomain(@NonNull GremlinSource<T> source, @NonNull List<Result> results,
+                                  @NonNull Map<Class<?>, Map<String, Object>> edgeVertices) {
+        final T domain = this.readDomain(source, results, edgeVertices);
+        final DomainCaches caches = this.getDomainCaches(source);
+
+        if (caches != null && this.getCachePolicy(source) != GremlinCachePolicy.NONE) {
+            caches.getDomains(source.getDomainClass()).put(source.getId().get(), domain);
+        }
+
+        this.keepSnapshot(source);
+
+        return domain;
+    }
+
+    /**
+     * Map the results to domain without keeping it in the domain cache.
+     */
+    private <T> T readDomain(@NonNull GremlinSource<T> source, @NonNull List<Result> results,
+                             @NonNull Map<Class<?>, Map<String, Object>> edgeVertices) {
         final T domain;
         final Class<T> domainClass = source.getDomainClass();
 
@@ -516,17 +1354,23 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         domain = this.mappingConverter.read(domainClass, source);
 
         if (source instanceof GremlinSourceEdge) {
-            this.completeEdge(domain, (GremlinSourceEdge) source);
-            idToDomainEdges.put(source.getId().get(), domain);
-        } else if (source instanceof GremlinSourceVertex) {
-            idToDomainVertices.put(source.getId().get(), domain);
+            this.completeEdge(domain, (GremlinSourceEdge) source, edgeVertices);
         }
 
         return domain;
     }
 
+    /**
+     * The vertices of edge results are found all at once before mapping.
+     */
     protected <T> List<T> recoverDomainList(@NonNull GremlinSource<T> source, @NonNull List<Result> results) {
-        return results.stream().map(r -> recoverDomain(source, Collections.singletonList(r))).collect(toList());
+        return this.recoverDomainList(source, results, this.findEdgeVertices(source, results));
+    }
+
+    protected <T> List<T> recoverDomainList(@NonNull GremlinSource<T> source, @NonNull List<Result> results,
+                                            @NonNull Map<Class<?>, Map<String, Object>> edgeVertices) {
+        return results.stream().map(r -> recoverDomain(source, Collections.singletonList(r), edgeVertices))
+            .collect(toList());
     }
 
     protected <T> T recoverGraphDomain(@NonNull GremlinSourceGraph<T> source, @NonNull List<Result> results) {
@@ -542,23 +1386,97 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
         return !existsById(id, source);
     }
 
+    /**
+     * Only count the entity of given id on the server, it is neither fetched nor mapped.
+     */
     @Override
     public <T> boolean existsById(@NonNull Object id, @NonNull GremlinSource<T> source) {
-        return findById(id, source) != null;
+        source.setId(id);
+
+        if (this.getCachedDomain(source, id) != null) {
+            return true;
+        }
+
+        return this.existsOnServer(source);
+    }
+
+    private <T> boolean existsOnServer(@NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateExistsByIdScript(source, bindings);
+
+        return this.executeQuery(queryList, bindings.getBindings()).get(0).getLong() > 0;
     }
 
     @Override
     public <T> List<T> find(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
-        final QueryScriptGenerator generator = new QueryFindScriptGenerator(source);
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final QueryScriptGenerator generator = new QueryFindScriptGenerator(source, bindings);
         final List<String> queryList = generator.generate(query);
+        final Map<String, Object> bindingMap = bindings.getBindings();
+
+        // Concurrent calls of the same query share it, each gets its own list.
+        return new ArrayList<>(this.readOnce(source, Arrays.asList(queryList, bindingMap), () -> {
+            if (this.queryCache == null || this.getDomainCaches(source) == null) {
+                return this.find(queryList, bindingMap, source);
+            }
+
+            return this.findCached(queryList, bindingMap, source);
+        }));
+    }
 
-        return find(queryList, source);
+    /**
+     * Find the domains of the ids the same query found last time, if all of them are still in the domain cache.
+     * Otherwise the query is submitted, and the ids it finds are cached unless the label is written meanwhile.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> findCached(@NonNull List<String> queryList, @NonNull Map<String, Object> bindings,
+                                   @NonNull GremlinSource<T> source) {
+        final String label = source.getLabel();
+        final List<Object> cachedIds = this.queryCache.get(label, queryList, bindings);
+
+        if (cachedIds != null) {
+            final List<T> domains = new ArrayList<>(cachedIds.size());
+
+            for (final Object id : cachedIds) {
+                final Object domain = this.getCachedDomain(source, id);
+
+                if (domain == null) {
+                    break;
+                }
+
+                domains.add((T) domain);
+            }
+
+            if (domains.size() == cachedIds.size()) {
+                return domains;
+            }
+        }
+
+        final long version = this.queryCache.getVersion(label);
+        final List<Result> results = this.executeQuery(queryList, bindings);
+        final List<T> domains = new ArrayList<>(results.size());
+        final List<Object> ids = new ArrayList<>(results.size());
+        final Map<Class<?>, Map<String, Object>> edgeVertices = this.findEdgeVertices(source, results);
+
+        for (final Result result : results) {
+            domains.add(this.recoverDomain(source, Collections.singletonList(result), edgeVertices));
+            ids.add(source.getId().get());
+        }
+
+        this.queryCache.put(label, queryList, bindings, ids, version);
+
+        return domains;
     }
 
 
     @Override
     public <T> List<T> find(@NonNull List<String> queryList, GremlinSource<T> source) {
-        final List<Result> results = this.executeQuery(queryList);
+        return find(queryList, Collections.emptyMap(), source);
+    }
+
+    private <T> List<T> find(@NonNull List<String> queryList, @NonNull Map<String, Object> bindings,
+                             @NonNull GremlinSource<T> source) {
+        final List<Result> results = this.executeQuery(queryList, bindings);
 
         if (results.isEmpty()) {
             return Collections.emptyList();
@@ -569,8 +1487,428 @@ public class GremlinTemplate implements GremlinOperations, ApplicationContextAwa
 
 
     @Override
-    public <T> List<T> saveAll(List<T> domains) {
-        return StreamSupport.stream(domains.spliterator(), true).map(this::save).collect(toList());
+    public <T> Stream<T> stream(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final QueryScriptGenerator generator = new QueryFindScriptGenerator(source, bindings);
+
+        return this.stream(generator.generate(query), bindings.getBindings(), source);
     }
-}
 
+    /**
+     * Each result is mapped when the stream reaches it and is not kept by the template afterwards, neither as
+     * {@link Result} nor in the domain cache, and neither are the vertices of edge results. The driver still
+     * buffers the results received ahead of the stream, up to the whole result when it is consumed slower than
+     * the server sends it. Edge results are read in chunks of the batch size of {@link GremlinConfig}, so the
+     * vertices of each chunk are found all at once. Closing the stream stops reading the results and releases
+     * the ones buffered, the driver offers no way to cancel the request on the server.
+     */
+    private <T> Stream<T> stream(@NonNull List<String> queryList, @NonNull Map<String, Object> bindings,
+                                 @NonNull GremlinSource<T> source) {
+        Assert.isTrue(queryList.size() == 1, "only single query can be streamed");
+
+        final AtomicReference<Iterator<Result>> results = new AtomicReference<>();
+
+        try {
+            results.set(this.submitStream(queryList.get(0), bindings));
+        } catch (RuntimeException e) {
+            throw new GremlinQueryException("unable to complete query from gremlin", e);
+        }
+
+        final int chunkSize = source instanceof GremlinSourceEdge ? this.batchSize : 1;
+        final Iterator<T> domains = new Iterator<T>() {
+            private final Deque<T> chunk = new ArrayDeque<>();
+
+            private boolean hasNextResult() {
+                final Iterator<Result> iterator = results.get();
+
+                try {
+                    return iterator != null && iterator.hasNext();
+                } catch (RuntimeException e) {
+                    throw new GremlinQueryException("unable to complete query from gremlin", e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !this.chunk.isEmpty() || this.hasNextResult();
+            }
+
+            @Override
+            public T next() {
+                if (this.chunk.isEmpty()) {
+                    final List<Result> chunkResults = new ArrayList<>(chunkSize);
+
+                    while (chunkResults.size() < chunkSize && this.hasNextResult()) {
+                        chunkResults.add(results.get().next());
+                    }
+
+                    if (chunkResults.isEmpty()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    final Map<Class<?>, Map<String, Object>> vertices =
+                        joinBatch(findEdgeVerticesAsync(source, chunkResults, false));
+
+                    for (final Result result : chunkResults) {
+                        this.chunk.add(readDomain(source, Collections.singletonList(result), vertices));
+                    }
+                }
+
+                return this.chunk.poll();
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(domains, Spliterator.ORDERED), false)
+            .onClose(() -> results.set(null));
+    }
+
+    /**
+     * Vertices are written in batches, each one a single traversal chaining as many vertices as the batch size
+     * and the max content length of {@link GremlinConfig} allow. Other domains, and vertices or edges with a given
+     * generated id which can only be updated, are saved one by one after the vertices. Edges are written in
+     * batches last, so they can refer to all the vertices given. The endpoint vertices of each edge batch are
+     * checked in one query and looked up once per distinct vertex, the edges missing any endpoint are skipped and
+     * reported by a {@link GremlinEdgeBatchException} after all the other domains are written. The domains are
+     * returned in the given order, with the ids generated by the server set.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> saveAll(@NonNull List<T> domains) {
+        final List<T> saved = new ArrayList<>(domains);
+        final List<Integer> vertexIndexes = new ArrayList<>();
+        final List<GremlinSource<T>> vertexSources = new ArrayList<>();
+        final List<Integer> edgeIndexes = new ArrayList<>();
+        final List<GremlinSource<T>> edgeSources = new ArrayList<>();
+        final List<Integer> otherIndexes = new ArrayList<>();
+
+        for (int i = 0; i < domains.size(); i++) {
+            final T domain = domains.get(i);
+            final GremlinEntityInformation information = GremlinEntityInformation.get(domain.getClass());
+            final GremlinSource<T> source = information.createGremlinSource();
+
+            source.setId(information.getId(domain));
+
+            if (information.isEntityGraph() || (source.getId().isPresent() && !this.isUpsertable(source))) {
+                otherIndexes.add(i);
+            } else if (information.isEntityVertex()) {
+                this.mappingConverter.write(domain, source);
+                vertexIndexes.add(i);
+                vertexSources.add(source);
+            } else {
+                this.mappingConverter.write(domain, source);
+                edgeIndexes.add(i);
+                edgeSources.add(source);
+            }
+        }
+
+        final GremlinScriptLiteralVertex vertexLiteral = new GremlinScriptLiteralVertex();
+
+        this.completeBatches(domains, vertexIndexes, vertexSources, this.writeBatches(vertexSources,
+            (source, index) -> this.estimateBatchElementLength(
+                bindings -> vertexLiteral.generateBatchElementScript(source, index, bindings)),
+            (batch, offset, sources) -> this.writeVertexBatch(vertexLiteral, sources)));
+
+        for (final int i : otherIndexes) {
+            saved.set(i, this.save(domains.get(i), (Class<T>) domains.get(i).getClass()));
+        }
+
+        final GremlinScriptLiteralEdge edgeLiteral = new GremlinScriptLiteralEdge();
+        final List<GremlinEdgeBatchException.Failure> failures = Collections.synchronizedList(new ArrayList<>());
+
+        this.completeBatches(domains, edgeIndexes, edgeSources, this.writeBatches(edgeSources,
+            (source, index) -> this.estimateBatchElementLength(bindings -> String.join(GREMLIN_PRIMITIVE_INVOKE,
+                edgeLiteral.generateBatchVertexScript(((GremlinSourceEdge<T>) source).getVertexIdFrom(), 0, bindings),
+                edgeLiteral.generateBatchVertexScript(((GremlinSourceEdge<T>) source).getVertexIdTo(), 1, bindings),
+                edgeLiteral.generateBatchElementScript(source, index, 0, 1, bindings))),
+            (batch, offset, sources) -> this.writeEdgeBatch(edgeLiteral, sources, failure -> failures.add(
+                new GremlinEdgeBatchException.Failure(batch, edgeIndexes.get(offset + failure.getIndex()),
+                    domains.get(edgeIndexes.get(offset + failure.getIndex())), failure.getMissingVertexIds())))));
+
+        if (!failures.isEmpty()) {
+            final List<GremlinEdgeBatchException.Failure> sorted = new ArrayList<>(failures);
+
+            sorted.sort(Comparator.comparingInt(GremlinEdgeBatchException.Failure::getIndex));
+
+            throw new GremlinEdgeBatchException(sorted);
+        }
+
+        return saved;
+    }
+
+    /**
+     * Apply the cache policy to the written domains of the batches, and set the ids generated for the inserted ones.
+     * The id of a domain not written is null.
+     */
+    private <T> void completeBatches(@NonNull List<T> domains, @NonNull List<Integer> indexes,
+                                     @NonNull List<GremlinSource<T>> sources, @NonNull List<Object> ids) {
+        for (int i = 0; i < indexes.size(); i++) {
+            final GremlinSource<T> source = sources.get(i);
+            final T domain = domains.get(indexes.get(i));
+
+            if (ids.get(i) == null) {
+                source.getId().ifPresent(id -> this.evictCachedDomain(source, id));
+            } else {
+                if (!source.getId().isPresent()) {
+                    this.setGeneratedId(domain, ids.get(i));
+                }
+
+                this.cacheWrittenDomain(source, source.getId().orElse(ids.get(i)), domain);
+            }
+        }
+    }
+
+    private void setGeneratedId(@NonNull Object domain, @NonNull Object id) {
+        final ConvertingPropertyAccessor accessor = this.mappingConverter.getPropertyAccessor(domain);
+        final GremlinPersistentEntity<?> entity = this.mappingConverter.getPersistentEntity(domain.getClass());
+        final PersistentProperty property =
+            entity.getPersistentProperty(GremlinUtils.getIdField(domain.getClass()).getName());
+
+        Assert.notNull(property, "persistence property should not be null");
+
+        accessor.setProperty(property, id);
+    }
+
+    /**
+     * Write the sources in batches, at most as many batches as the executor pool size are in flight at once.
+     * The batches written before a failure stay written.
+     *
+     * @return the ids of the sources in the given order.
+     */
+    private <T> List<Object> writeBatches(@NonNull List<GremlinSource<T>> sources,
+                                          @NonNull BatchElementEstimator<T> estimator,
+                                          @NonNull BatchWriter<T> writer) {
+        final List<CompletableFuture<List<Object>>> futures = new ArrayList<>();
+        List<GremlinSource<T>> batch = new ArrayList<>();
+        int batchLength = 0;
+        int offset = 0;
+        int joined = 0;
+
+        for (int i = 0; i < sources.size(); i++) {
+            final int length = estimator.estimate(sources.get(i), i - offset);
+
+            final boolean full = batch.size() >= this.batchSize || batchLength + length > this.batchContentLength;
+
+            if (!batch.isEmpty() && full) {
+                futures.add(writer.write(futures.size(), offset, batch));
+                batch = new ArrayList<>();
+                batchLength = 0;
+                offset = i;
+            }
+
+            if (futures.size() - joined >= this.batchParallelism) {
+                joinBatch(futures.get(joined++));
+            }
+
+            batch.add(sources.get(i));
+            batchLength += length;
+        }
+
+        if (!batch.isEmpty()) {
+            futures.add(writer.write(futures.size(), offset, batch));
+        }
+
+        final List<Object> ids = new ArrayList<>(sources.size());
+
+        for (final CompletableFuture<List<Object>> future : futures) {
+            ids.addAll(joinBatch(future));
+        }
+
+        return ids;
+    }
+
+    private static <R> R joinBatch(@NonNull CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+
+            if (cause instanceof GremlinQueryException) {
+                throw (GremlinQueryException) cause;
+            }
+
+            throw new GremlinQueryException("unable to complete batch from gremlin", cause);
+        }
+    }
+
+    private int estimateBatchElementLength(@NonNull Function<GremlinScriptBindings, String> scriptGenerator) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final String script = scriptGenerator.apply(bindings);
+        int length = script.getBytes(StandardCharsets.UTF_8).length + GREMLIN_PRIMITIVE_INVOKE.length();
+
+        for (final Map.Entry<String, Object> binding : bindings.getBindings().entrySet()) {
+            length += binding.getKey().length() + Constants.BATCH_BINDING_OVERHEAD_LENGTH
+                + String.valueOf(binding.getValue()).getBytes(StandardCharsets.UTF_8).length;
+        }
+
+        return length;
+    }
+
+    private <T> CompletableFuture<List<Object>> writeVertexBatch(@NonNull GremlinScriptLiteralVertex literal,
+                                                                 @NonNull List<GremlinSource<T>> batch) {
+        final GremlinScriptBindings bindings = this.createScriptBindings();
+        final List<String> elementScripts = new ArrayList<>(batch.size());
+
+        for (int i = 0; i < batch.size(); i++) {
+            elementScripts.add(literal.generateBatchElementScript(batch.get(i), i, bindings));
+        }
+
+        return this.executeQueryAsync(literal.generateBatchScript(elementScripts), bindings.getBindings())
+            .thenApply(results -> toBatchIds(results, batch.size(), GremlinScriptLiteralVertex::toBatchAlias));
+    }
+
+    /**
+     * Check the endpoint vertices of the edges of the batch in one query, then write the edges having both
+     * endpoints in one traversal. Each edge missing any endpoint is given to the failure consumer, with its
+     * index in the batch, and has null id.
+     */
+    private <T> CompletableFuture<List<Object>> writeEdgeBatch(
+            @NonNull GremlinScriptLiteralEdge literal, @NonNull List<GremlinSource<T>> batch,
+            @NonNull Consumer<GremlinEdgeBatchException.Failure> failureConsumer) {
+        final Map<String, Object> vertexIds = new LinkedHashMap<>();
+
+        for (final GremlinSource<T> source : batch) {
+            final GremlinSourceEdge<T> sourceEdge = (GremlinSourceEdge<T>) source;
+
+            vertexIds.putIfAbsent(String.valueOf(sourceEdge.getVertexIdFrom()), sourceEdge.getVertexIdFrom());
+            vertexIds.putIfAbsent(String.valueOf(sourceEdge.getVertexIdTo()), sourceEdge.getVertexIdTo());
+        }
+
+        final GremlinScriptBindings findBindings = this.createScriptBindings();
+        final List<String> findQueries =
+            literal.generateFindVertexIdsScript(new ArrayList<>(vertexIds.values()), findBindings);
+
+        return this.executeQueryAsync(findQueries, findBindings.getBindings()).thenCompose(results -> {
+            final Set<String> foundIds = new HashSet<>();
+
+            results.forEach(result -> foundIds.add(String.valueOf(result.getObject())));
+
+            final GremlinScriptBindings bindings = this.createScriptBindings();
+            final Map<String, Integer> vertexIndexes = new HashMap<>();
+            final List<String> vertexScripts = new ArrayList<>();
+            final List<String> elementScripts = new ArrayList<>();
+            final List<Integer> written = new ArrayList<>();
+
+            for (int i = 0; i < batch.size(); i++) {
+                final GremlinSourceEdge<T> sourceEdge = (GremlinSourceEdge<T>) batch.get(i);
+                final List<Object> missingIds = new ArrayList<>();
+
+                for (final Object vertexId : Arrays.asList(sourceEdge.getVertexIdFrom(), sourceEdge.getVertexIdTo())) {
+                    if (!foundIds.contains(String.valueOf(vertexId)) && !missingIds.contains(vertexId)) {
+                        missingIds.add(vertexId);
+                    }
+                }
+
+                if (!missingIds.isEmpty()) {
+                    failureConsumer.accept(new GremlinEdgeBatchException.Failure(0, i, sourceEdge, missingIds));
+                    continue;
+                }
+
+                final int[] endpoints = new int[2];
+                final Object[] endpointIds = {sourceEdge.getVertexIdFrom(), sourceEdge.getVertexIdTo()};
+
+                for (int j = 0; j < endpoints.length; j++) {
+                    final Object vertexId = endpointIds[j];
+
+                    endpoints[j] = vertexIndexes.computeIfAbsent(String.valueOf(vertexId), k -> {
+                        vertexScripts.add(literal.generateBatchVertexScript(vertexId, vertexScripts.size(), bindings));
+
+                        return vertexScripts.size() - 1;
+                    });
+                }
+
+                elementScripts.add(literal.generateBatchElementScript(sourceEdge, elementScripts.size(),
+                    endpoints[0], endpoints[1], bindings));
+                written.add(i);
+            }
+
+            if (written.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.nCopies(batch.size(), null));
+            }
+
+            final List<String> queries = literal.generateBatchScript(vertexScripts, elementScripts);
+
+            return this.executeQueryAsync(queries, bindings.getBindings()).thenApply(writtenResults -> {
+                final List<Object> writtenIds =
+                    toBatchIds(writtenResults, written.size(), GremlinScriptLiteralEdge::toBatchAlias);
+                final List<Object> ids = new ArrayList<>(Collections.nCopies(batch.size(), null));
+
+                for (int i = 0; i < written.size(); i++) {
+                    ids.set(written.get(i), writtenIds.get(i));
+                }
+
+                return ids;
+            });
+        });
+    }
+
+    private static List<Object> toBatchIds(@NonNull List<Result> results, int size,
+                                           @NonNull IntFunction<String> aliasGenerator) {
+        if (results.size() != 1) {
+            throw new GremlinQueryException("batch should return one result, but got " + results.size());
+        }
+
+        final Object object = results.get(0).getObject();
+
+        if (size == 1) {
+            return Collections.singletonList(object);
+        } else if (!(object instanceof Map)) {
+            throw new GremlinQueryException("batch should return the map of ids, but got " + object);
+        }
+
+        final Map<?, ?> idsByAlias = (Map<?, ?>) object;
+        final List<Object> ids = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            ids.add(idsByAlias.get(aliasGenerator.apply(i)));
+        }
+
+        return ids;
+    }
+
+    /**
+     * The caches of the domains recovered for each vertex or edge class, and of the snapshots of their properties.
+     */
+    private final class DomainCaches {
+
+        private final Map<Class<?>, GremlinDomainCache> domains = new ConcurrentHashMap<>();
+
+        private final Map<Class<?>, GremlinDomainCache> snapshots = new ConcurrentHashMap<>();
+
+        private GremlinDomainCache getDomains(@NonNull Class<?> domainClass) {
+            return this.domains.computeIfAbsent(domainClass, c -> domainCacheFactory.create(c));
+        }
+
+        private GremlinDomainCache getSnapshots(@NonNull Class<?> domainClass) {
+            return this.snapshots.computeIfAbsent(domainClass, c -> domainCacheFactory.create(c));
+        }
+
+        @Nullable
+        private Object getDomain(@NonNull Class<?> domainClass, @NonNull Object id) {
+            final GremlinDomainCache cache = this.domains.get(domainClass);
+
+            return cache == null ? null : cache.get(id);
+        }
+
+        private void clear() {
+            this.domains.values().forEach(GremlinDomainCache::clear);
+            this.snapshots.values().forEach(GremlinDomainCache::clear);
+        }
+
+        private void reset() {
+            this.domains.clear();
+            this.snapshots.clear();
+        }
+    }
+
+    /**
+     * A read in flight, by the domain class and the id or the script and bindings read.
+     */
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static final class ReadKey {
+
+        private final Class<?> domainClass;
+
+        private final Object key;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+
+/**
+ * Provider interface for basic Operations with Gremlin as reactive streams. Nothing is sent to the server
+ * before subscription, and the elements of Flux results are read from the driver and mapped on demand.
+ */
+public interface ReactiveGremlinOperations
+{
+
+    MappingGremlinConverter getMappingConverter();
+
+
+    Mono<Void> deleteAll();
+
+
+    <T> Mono<Void> deleteAll(GremlinSource<T> source);
+
+
+    <T> Mono<Boolean> existsById(Object id, GremlinSource<T> source);
+
+
+    default <T> Mono<Boolean> existsById(Object id, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return existsById(id, source);
+    }
+
+
+    <T> Mono<Void> deleteById(Object id, GremlinSource<T> source);
+
+
+    default <T> Mono<Void> deleteById(Object id, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return deleteById(id, source);
+    }
+
+
+    <T> Mono<T> findById(Object id, GremlinSource<T> source);
+
+
+    default <T> Mono<T> findById(Object id, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return findById(id, source);
+    }
+
+
+    <T> Mono<T> save(T object, GremlinSource<T> source);
+
+
+    default <T> Mono<T> save(T object, Class<T> domainClass) {
+        final GremlinEntityInformation entityInformation =
+            GremlinEntityInformation.get(domainClass);
+        final GremlinSource<T> source =
+            entityInformation.createGremlinSource();
+        source.setId(entityInformation.getId(object));
+
+        return save(object, source);
+    }
+
+
+    <T> Flux<T> findAll(GremlinSource<T> source);
+
+
+    default <T> Flux<T> findAll(Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return findAll(source);
+    }
+
+
+    Mono<Long> vertexCount();
+
+
+    Mono<Long> edgeCount();
+
+
+    <T> Mono<Long> count(GremlinQuery query, GremlinSource<T> source);
+
+
+    default <T> Mono<Long> count(GremlinQuery query, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return count(query, source);
+    }
+
+
+    <T> Flux<T> find(GremlinQuery query, GremlinSource<T> source);
+
+
+    default <T> Flux<T> find(GremlinQuery query, Class<T> domainClass) {
+        final GremlinSource<T> source =
+            GremlinEntityInformation.get(domainClass).createGremlinSource();
+
+        return find(query, source);
+    }
+}
@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+
+import com.microsoft.spring.data.gremlin.common.Constants;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptLiteralGraph;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceGraph;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.query.query.QueryFindScriptGenerator;
+import com.microsoft.spring.data.gremlin.query.query.QueryScriptGenerator;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reactive streams on top of {@link GremlinAsyncTemplate}. Results of findAll and find are not collected into
+ * a list, they are fetched from the {@link ResultSet} of the driver and mapped only as much as the downstream
+ * requested, at most {@link Constants#DEFAULT_REACTIVE_FETCH_SIZE} at a time.
+ */
+public class ReactiveGremlinTemplate implements ReactiveGremlinOperations {
+
+    /**
+     * Fetch the next results of a submitted query as they arrive, an empty list means no more results.
+     */
+    @FunctionalInterface
+    protected interface ResultFetcher {
+        CompletableFuture<List<Result>> fetch(int count);
+    }
+
+    private final GremlinAsyncTemplate asyncTemplate;
+
+    public ReactiveGremlinTemplate(@NonNull GremlinAsyncTemplate asyncTemplate) {
+        this.asyncTemplate = asyncTemplate;
+    }
+
+    private GremlinTemplate getTemplate() {
+        return this.asyncTemplate.getTemplate();
+    }
+
+    @Override
+    public MappingGremlinConverter getMappingConverter() {
+        return this.getTemplate().getMappingConverter();
+    }
+
+    private Mono<List<Result>> executeQuery(@NonNull List<String> queries) {
+        return Mono.defer(() -> Mono.fromFuture(
+            this.getTemplate().executeQueryAsync(queries, Collections.emptyMap())));
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        final List<String> queryList = new GremlinScriptLiteralGraph().generateDeleteAllScript();
+
+        return this.executeQuery(queryList)
+            .doOnSuccess(results -> this.getTemplate().clearDomainCache())
+            .then();
+    }
+
+    @Override
+    public <T> Mono<Void> deleteAll(@NonNull GremlinSource<T> source) {
+        final List<String> queryList = source.getGremlinScriptLiteral().generateDeleteAllByClassScript(source);
+
+        return this.executeQuery(queryList)
+            .doOnSuccess(results -> this.getTemplate().clearCachedDomains(source))
+            .then();
+    }
+
+    @Override
+    public <T> Mono<Boolean> existsById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncTemplate.existsByIdAsync(id, source)));
+    }
+
+    @Override
+    public <T> Mono<Void> deleteById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncTemplate.deleteByIdAsync(id, source)));
+    }
+
+    @Override
+    public <T> Mono<T> findById(@NonNull Object id, @NonNull GremlinSource<T> source) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncTemplate.findByIdAsync(id, source)));
+    }
+
+    @Override
+    public <T> Mono<T> save(@NonNull T object, @NonNull GremlinSource<T> source) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncTemplate.saveAsync(object, source)));
+    }
+
+    @Override
+    public <T> Flux<T> findAll(@NonNull GremlinSource<T> source) {
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("Gremlin graph cannot be findAll.");
+        }
+
+        final GremlinScriptBindings bindings = this.getTemplate().createScriptBindings();
+        final List<String> queryList = source.getGremlinScriptLiteral().generateFindAllScript(source, bindings);
+
+        return this.stream(queryList, bindings, source);
+    }
+
+    @Override
+    public Mono<Long> vertexCount() {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncTemplate.vertexCountAsync()));
+    }
+
+    @Override
+    public Mono<Long> edgeCount() {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncTemplate.edgeCountAsync()));
+    }
+
+    @Override
+    public <T> Mono<Long> count(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        return Mono.defer(() -> Mono.fromFuture(this.asyncTemplate.countAsync(query, source)));
+    }
+
+    @Override
+    public <T> Flux<T> find(@NonNull GremlinQuery query, @NonNull GremlinSource<T> source) {
+        final GremlinScriptBindings bindings = this.getTemplate().createScriptBindings();
+        final QueryScriptGenerator generator = new QueryFindScriptGenerator(source, bindings);
+
+        return this.stream(generator.generate(query), bindings, source);
+    }
+
+    /**
+     * Submit the query on subscription, and complete when it is accepted by the server.
+     */
+    protected Mono<ResultFetcher> submitQuery(@NonNull String query, @NonNull Map<String, Object> bindings) {
+        return Mono.defer(() -> Mono.fromFuture(this.getTemplate().submitAsync(query, bindings)))
+            .map(resultSet -> resultSet::some);
+    }
+
+    private <T> Flux<T> stream(@NonNull List<String> queries, @NonNull GremlinScriptBindings bindings,
+                               @NonNull GremlinSource<T> source) {
+        Assert.isTrue(queries.size() == 1, "only single query can be streamed");
+
+        return Flux.defer(() -> this.submitQuery(queries.get(0), bindings.getBindings())
+            .onErrorMap(e -> new GremlinQueryException("unable to complete query from gremlin", e))
+            .flatMapMany(fetcher -> Flux.<T>create(sink -> new ResultEmitter<>(fetcher, sink, source).drain())));
+    }
+
+    /**
+     * Fetch and map one batch of results at a time, no more than the downstream requested.
+     */
+    private final class ResultEmitter<T> {
+
+        private final ResultFetcher fetcher;
+
+        private final FluxSink<T> sink;
+
+        private final GremlinSource<T> source;
+
+        private final AtomicBoolean fetching = new AtomicBoolean();
+
+        private volatile boolean done;
+
+        private ResultEmitter(@NonNull ResultFetcher fetcher, @NonNull FluxSink<T> sink,
+                              @NonNull GremlinSource<T> source) {
+            this.fetcher = fetcher;
+            this.sink = sink;
+            this.source = source;
+
+            sink.onRequest(n -> this.drain());
+        }
+
+        private void drain() {
+            if (this.done || this.sink.isCancelled() || !this.fetching.compareAndSet(false, true)) {
+                return;
+            }
+
+            final long requested = this.sink.requestedFromDownstream();
+
+            if (requested <= 0) {
+                this.fetching.set(false);
+
+                if (this.sink.requestedFromDownstream() > 0) {
+                    this.drain(); // Demand may arrive between reading it and releasing the flag.
+                }
+
+                return;
+            }
+
+            final int count = (int) Math.min(requested, Constants.DEFAULT_REACTIVE_FETCH_SIZE);
+
+            this.fetcher.fetch(count)
+                .thenCompose(results -> {
+                    if (results.isEmpty()) {
+                        this.done = true;
+                    }
+
+                    return asyncTemplate.recoverDomainListAsync(this.source, results);
+                })
+                .whenComplete((domains, e) -> {
+                    if (e != null) {
+                        this.done = true;
+
+                        final Throwable cause = e instanceof CompletionException && e.getCause() != null ?
+                            e.getCause() : e;
+
+                        this.sink.error(new GremlinQueryException("unable to complete query from gremlin", cause));
+                    } else if (this.done) {
+                        this.sink.complete();
+                    } else {
+                        domains.forEach(this.sink::next);
+                        this.fetching.set(false);
+                        this.drain();
+                    }
+                });
+        }
+    }
+}
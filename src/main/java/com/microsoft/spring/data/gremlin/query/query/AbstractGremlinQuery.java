@@ -29,6 +29,10 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
         return false;
     }
 
+    protected boolean isCountQuery() {
+        return false;
+    }
+
     @Override
     public Object execute(@NonNull Object[] parameters) {
         final GremlinParameterAccessor accessor = new GremlinParametersParameterAccessor(this.method, parameters);
@@ -50,6 +54,10 @@ public abstract class AbstractGremlinQuery implements RepositoryQuery {
     private GremlinQueryExecution getExecution() {
         if (this.isDeleteQuery()) {
             throw new UnsupportedOperationException("Not implemented yet");
+        } else if (this.isCountQuery()) {
+            return new GremlinQueryExecution.CountExecution(this.operations);
+        } else if (this.method.isStreamQuery()) {
+            return new GremlinQueryExecution.StreamExecution(this.operations);
         } else {
             return new GremlinQueryExecution.FindExecution(this.operations);
         }
@@ -28,4 +28,36 @@ public interface GremlinQueryExecution {
             return this.operations.find(query, source);
         }
     }
+
+    final class StreamExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+
+        public StreamExecution(@NonNull GremlinOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> domainClass) {
+            final GremlinSource<?> source = GremlinUtils.toGremlinSource(domainClass);
+
+            return this.operations.stream(query, source);
+        }
+    }
+
+    final class CountExecution implements GremlinQueryExecution {
+
+        private final GremlinOperations operations;
+
+        public CountExecution(@NonNull GremlinOperations operations) {
+            this.operations = operations;
+        }
+
+        @Override
+        public Object execute(@NonNull GremlinQuery query, @NonNull Class<?> domainClass) {
+            final GremlinSource<?> source = GremlinUtils.toGremlinSource(domainClass);
+
+            return this.operations.count(query, source);
+        }
+    }
 }
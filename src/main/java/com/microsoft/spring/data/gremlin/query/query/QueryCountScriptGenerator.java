@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import org.springframework.lang.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_COUNT;
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PRIMITIVE_INVOKE;
+
+/**
+ * Generate the same traversal as {@link QueryFindScriptGenerator} but terminated by count(), so the
+ * server only returns a single long instead of every matched element.
+ */
+public class QueryCountScriptGenerator extends QueryFindScriptGenerator {
+
+    public QueryCountScriptGenerator(@NonNull GremlinSource source) {
+        super(source);
+    }
+
+    public QueryCountScriptGenerator(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
+        super(source, bindings);
+    }
+
+    @Override
+    public List<String> generate(@NonNull GremlinQuery query) {
+        final List<String> scriptList = new ArrayList<>(this.generateScript(query));
+
+        scriptList.add(GREMLIN_PRIMITIVE_COUNT);
+
+        return Collections.singletonList(String.join(GREMLIN_PRIMITIVE_INVOKE, scriptList));
+    }
+}
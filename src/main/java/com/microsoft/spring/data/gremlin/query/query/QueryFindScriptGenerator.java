@@ -7,6 +7,7 @@ package com.microsoft.spring.data.gremlin.query.query;
 
 
 import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.conversion.script.GremlinScriptBindings;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
@@ -15,6 +16,7 @@ import com.microsoft.spring.data.gremlin.query.criteria.CriteriaType;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -25,8 +27,15 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
 
     private final GremlinSource source;
 
+    private final GremlinScriptBindings bindings;
+
     public QueryFindScriptGenerator(@NonNull GremlinSource source) {
+        this(source, GremlinScriptBindings.inline());
+    }
+
+    public QueryFindScriptGenerator(@NonNull GremlinSource source, @NonNull GremlinScriptBindings bindings) {
         this.source = source;
+        this.bindings = bindings;
     }
 
     public String getCriteriaSubject(@NonNull Criteria criteria) {
@@ -43,9 +52,11 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
         final String subject = getCriteriaSubject(criteria);
 
         if (subject.equals(PROPERTY_ID)) {
-            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHasId(criteria.getSubValues().get(0)));
+            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHasId(criteria.getSubValues().get(0), this.bindings));
         } else {
-            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHas(subject, criteria.getSubValues().get(0)));
+            final Object value = criteria.getSubValues().get(0);
+
+            return String.format(GREMLIN_PRIMITIVE_WHERE, generateHas(subject, value, this.bindings));
         }
     }
 
@@ -57,7 +68,7 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
      */
     public String generateEmptyScript(@NonNull Criteria criteria) {
         final String subject = this.getCriteriaSubject(criteria);
-        final String has = generateHas(subject, true);
+        final String has = generateHas(subject, true, this.bindings);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, has);
     }
@@ -74,7 +85,7 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
         final long milliSeconds = GremlinUtils.timeToMilliSeconds(criteria.getSubValues().get(0));
 
         final String values = String.format(GREMLIN_PRIMITIVE_VALUES, subject);
-        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type), milliSeconds);
+        final String query = this.formatPredicate(type, milliSeconds);
         final String content = String.join(GREMLIN_PRIMITIVE_INVOKE, values, query);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, content);
@@ -93,12 +104,24 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
         final long end = GremlinUtils.toPrimitiveLong(criteria.getSubValues().get(1));
 
         final String values = String.format(GREMLIN_PRIMITIVE_VALUES, subject);
-        final String query = String.format(CriteriaType.criteriaTypeToGremlin(type), start, end);
+        final String query = this.formatPredicate(type, start, end);
         final String content = String.join(GREMLIN_PRIMITIVE_INVOKE, values, query);
 
         return String.format(GREMLIN_PRIMITIVE_WHERE, content);
     }
 
+    private String formatPredicate(@NonNull CriteriaType type, long... milliSeconds) {
+        final String predicate = CriteriaType.criteriaTypeToGremlin(type);
+
+        if (!this.bindings.isParameterized()) {
+            return String.format(predicate, Arrays.stream(milliSeconds).boxed().toArray());
+        }
+
+        final Object[] names = Arrays.stream(milliSeconds).mapToObj(this.bindings::bind).toArray();
+
+        return String.format(predicate.replace("%d", "%s"), names);
+    }
+
     /**
      * Generate script combined by AND/OR keyword.
      *
@@ -223,10 +246,10 @@ public class QueryFindScriptGenerator implements QueryScriptGenerator {
 
         if (subject.equals(PROPERTY_ID)) {
             criteria.getSubValues().forEach(
-                value -> hasList.add(generateHasId(value.toString())));
+                value -> hasList.add(generateHasId(value.toString(), this.bindings)));
         } else {
             criteria.getSubValues().forEach(
-                value -> hasList.add(generateHas(subject, value)));
+                value -> hasList.add(generateHas(subject, value, this.bindings)));
         }
 
         return String.format("where(or(%s))",
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.mapping.GremlinPersistentProperty;
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinOperations;
+import com.microsoft.spring.data.gremlin.query.paramerter.GremlinParameterAccessor;
+import com.microsoft.spring.data.gremlin.query.paramerter.GremlinParametersParameterAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+
+/**
+ * Derived query of reactive repository, which returns Flux of the matched domains, or Mono for the methods
+ * declared to return Mono like count projection.
+ */
+public class ReactivePartTreeGremlinQuery implements RepositoryQuery {
+
+    private final GremlinQueryMethod method;
+    private final ReactiveGremlinOperations operations;
+    private final PartTree partTree;
+    private final MappingContext<?, GremlinPersistentProperty> mappingContext;
+    private final boolean monoQuery;
+
+    public ReactivePartTreeGremlinQuery(@NonNull Method method, @NonNull GremlinQueryMethod queryMethod,
+                                        @NonNull ReactiveGremlinOperations operations) {
+        final ResultProcessor processor = queryMethod.getResultProcessor();
+
+        this.method = queryMethod;
+        this.operations = operations;
+        this.partTree = new PartTree(queryMethod.getName(), processor.getReturnedType().getDomainType());
+        this.mappingContext = operations.getMappingConverter().getMappingContext();
+        this.monoQuery = Mono.class.isAssignableFrom(method.getReturnType());
+    }
+
+    protected GremlinQuery createQuery(@NonNull GremlinParameterAccessor accessor) {
+        final GremlinQueryCreator creator = new GremlinQueryCreator(this.partTree, accessor, this.mappingContext);
+
+        if (this.partTree.isLimiting()) {
+            throw new UnsupportedOperationException("Limitation is not supported yet");
+        }
+
+        return creator.createQuery();
+    }
+
+    @Override
+    public Object execute(@NonNull Object[] parameters) {
+        final GremlinParameterAccessor accessor = new GremlinParametersParameterAccessor(this.method, parameters);
+        final GremlinQuery query = this.createQuery(accessor);
+        final ResultProcessor processor = this.method.getResultProcessor().withDynamicProjection(accessor);
+        final GremlinSource<?> source = GremlinUtils.toGremlinSource(processor.getReturnedType().getDomainType());
+
+        if (this.partTree.isCountProjection()) {
+            return this.operations.count(query, source);
+        }
+
+        final Flux<?> results = this.operations.find(query, source);
+
+        return this.monoQuery ? results.next() : results;
+    }
+
+    @Override
+    @NonNull
+    public GremlinQueryMethod getQueryMethod() {
+        return this.method;
+    }
+}
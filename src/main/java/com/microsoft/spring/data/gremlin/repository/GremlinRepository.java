@@ -10,16 +10,32 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.io.Serializable;
+import java.util.stream.Stream;
 
 @NoRepositoryBean
 public interface GremlinRepository<T, ID extends Serializable> extends CrudRepository<T, ID> {
 
     Iterable<T> findAll(Class<T> domainClass);
 
+    /**
+     * Stream all the elements of the domain without loading them at once, close the stream when done.
+     */
+    Stream<T> streamAll(Class<T> domainClass);
+
     void deleteAll(GremlinEntityType type);
 
     void deleteAll(Class<T> domainClass);
 
+    /**
+     * Delete the elements of the given ids in as few queries as possible, the ids not found are ignored.
+     */
+    void deleteAllById(Iterable<ID> ids);
+
+    /**
+     * Check if there is any vertex or edge with the label of the domain.
+     */
+    boolean existsAny();
+
     long vertexCount();
     long vertexCount(Class<T> domainClass);
 
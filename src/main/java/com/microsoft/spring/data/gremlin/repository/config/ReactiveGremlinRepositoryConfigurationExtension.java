@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.config;
+
+import com.microsoft.spring.data.gremlin.repository.ReactiveGremlinRepository;
+import org.springframework.data.repository.core.RepositoryMetadata;
+
+import java.util.Collection;
+import java.util.Collections;
+
+public class ReactiveGremlinRepositoryConfigurationExtension extends GremlinRepositoryConfigurationExtension {
+
+    @Override
+    public String getModuleName() {
+        return "Reactive " + super.getModuleName();
+    }
+
+    @Override
+    public Collection<Class<?>> getIdentifyingTypes() {
+        return Collections.singleton(ReactiveGremlinRepository.class);
+    }
+
+    @Override
+    protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+        return metadata.isReactiveRepository();
+    }
+}
@@ -0,0 +1,24 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.config;
+
+import org.springframework.data.repository.config.RepositoryBeanDefinitionRegistrarSupport;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+
+import java.lang.annotation.Annotation;
+
+public class ReactiveGremlinRepositoryRegistrar extends RepositoryBeanDefinitionRegistrarSupport {
+
+    @Override
+    protected Class<? extends Annotation> getAnnotation() {
+        return EnableReactiveGremlinRepositories.class;
+    }
+
+    @Override
+    protected RepositoryConfigurationExtension getExtension() {
+        return new ReactiveGremlinRepositoryConfigurationExtension();
+    }
+}
@@ -6,6 +6,7 @@
 package com.microsoft.spring.data.gremlin.repository.support;
 
 
+import com.microsoft.spring.data.gremlin.annotation.DomainCache;
 import com.microsoft.spring.data.gremlin.annotation.Edge;
 import com.microsoft.spring.data.gremlin.annotation.GeneratedValue;
 import com.microsoft.spring.data.gremlin.annotation.Graph;
@@ -23,6 +24,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -39,6 +41,13 @@ public class GremlinEntityInformation<T, ID> extends AbstractEntityInformation<T
     @Getter
     private GremlinEntityType entityType;
 
+    /**
+     * The cache settings of the domain class, null if not annotated.
+     */
+    @Getter
+    @Nullable
+    private final DomainCache domainCache;
+
     public GremlinSource<T> createGremlinSource() {
         return this.createGremlinSource(this.getJavaType(), this.idField);
     }
@@ -59,6 +68,41 @@ public class GremlinEntityInformation<T, ID> extends AbstractEntityInformation<T
         return gremlinEntityInformation;
     }
 
+    private static final Map<String, GremlinEntityInformation> classNameMap = new ConcurrentHashMap<>();
+
+    /**
+     * Get the information of the domain class named by the class name property of results. The class is loaded
+     * and its id field found once per class name, see {@link #registerAll(Collection)}.
+     */
+    public static GremlinEntityInformation getByClassName(@NonNull String className) {
+        GremlinEntityInformation gremlinEntityInformation = classNameMap.get(className);
+
+        if (gremlinEntityInformation == null) {
+            gremlinEntityInformation = get(GremlinUtils.toEntityClass(className));
+
+            classNameMap.put(className, gremlinEntityInformation);
+        }
+
+        return gremlinEntityInformation;
+    }
+
+    /**
+     * Register the information of the given domain classes ahead of reading any result. The classes which are
+     * not valid domains are skipped, and fail as before when read.
+     */
+    public static void registerAll(@NonNull Collection<Class<?>> domainClasses) {
+        for (final Class<?> domainClass : domainClasses) {
+            if (domainClass.isAnnotationPresent(Vertex.class) || domainClass.isAnnotationPresent(Edge.class)
+                    || domainClass.isAnnotationPresent(Graph.class)) {
+                try {
+                    classNameMap.put(domainClass.getName(), get(domainClass));
+                } catch (RuntimeException e) {
+                    // Left to fail on use, as an invalid domain class may be scanned but never used.
+                }
+            }
+        }
+    }
+
     protected GremlinEntityInformation(@NonNull Class<T> domainClass) {
         super(domainClass);
 
@@ -66,6 +110,7 @@ public class GremlinEntityInformation<T, ID> extends AbstractEntityInformation<T
         ReflectionUtils.makeAccessible(this.idField);
 
         this.entityType = this.getGremlinEntityType(domainClass); // The other fields getter may depend on type
+        this.domainCache = domainClass.getAnnotation(DomainCache.class);
     }
 
     public boolean isEntityEdge() {
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.support;
+
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinOperations;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+import java.io.Serializable;
+
+public class ReactiveGremlinRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+        extends RepositoryFactoryBeanSupport<T, S, ID> {
+
+    private ReactiveGremlinOperations operations;
+    private boolean mappingContextConfigured = false;
+
+    public ReactiveGremlinRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    @Autowired
+    public void setReactiveGremlinOperations(ReactiveGremlinOperations operations) {
+        this.operations = operations;
+    }
+
+    protected RepositoryFactorySupport getFactoryInstance(ReactiveGremlinOperations operations) {
+        return new ReactiveGremlinRepositoryFactory(operations);
+    }
+
+    @Override
+    protected final RepositoryFactorySupport createRepositoryFactory() {
+        return this.getFactoryInstance(this.operations);
+    }
+
+    @Override
+    protected void setMappingContext(MappingContext<?, ?> mappingContext) {
+        super.setMappingContext(mappingContext);
+
+        this.mappingContextConfigured = true;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+
+        if (!this.mappingContextConfigured) {
+            if (this.operations == null) {
+                this.setMappingContext(new GremlinMappingContext());
+            } else {
+                this.setMappingContext(this.operations.getMappingConverter().getMappingContext());
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.lang.NonNull;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.stream.Collectors.toList;
@@ -47,7 +48,7 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
 
     @Override
     public <S extends T> Iterable<S> saveAll(@NonNull Iterable<S> domains) {
-        return StreamSupport.stream(domains.spliterator(), true).map(this::save).collect(toList());
+        return this.operations.saveAll(StreamSupport.stream(domains.spliterator(), false).collect(toList()));
     }
 
     @Override
@@ -63,8 +64,9 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
 
     @Override
     public List<T> findAllById(@NonNull Iterable<ID> ids) {
-        return StreamSupport.stream(ids.spliterator(), true).map(this::findById)
-                .filter(Optional::isPresent).map(Optional::get).collect(toList());
+        final List<Object> idList = StreamSupport.stream(ids.spliterator(), false).collect(toList());
+
+        return this.operations.findAllById(idList, this.information.createGremlinSource());
     }
 
     @Override
@@ -79,6 +81,16 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
         return findAll();
     }
 
+    @Override
+    public Stream<T> streamAll(@NonNull Class<T> domainClass) {
+        return this.operations.streamAll(domainClass);
+    }
+
+    @Override
+    public boolean existsAny() {
+        return this.operations.existsByLabel(this.information.createGremlinSource());
+    }
+
     @Override
     public long vertexCount() {
         return this.operations.vertexCount();
@@ -103,12 +115,13 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
 
     /**
      * The total number of vertex and edge, vertexCount and edgeCount is also available.
+     * Both counts are issued concurrently as they are independent queries.
      *
      * @return the count of both vertex and edge.
      */
     @Override
     public long count() {
-        return this.vertexCount() + this.edgeCount();
+        return this.operations.count();
     }
 
     @Override
@@ -131,9 +144,32 @@ public class SimpleGremlinRepository<T, ID extends Serializable> implements Grem
         this.operations.deleteAll(type);
     }
 
+    /**
+     * The domains are dropped with one query, except graphs which are dropped one by one.
+     */
     @Override
     public void deleteAll(@NonNull Iterable<? extends T> domains) {
-        domains.forEach(this::delete);
+        if (this.information.isEntityGraph()) {
+            domains.forEach(this::delete);
+            return;
+        }
+
+        final List<Object> ids = StreamSupport.stream(domains.spliterator(), false)
+                .map(this.information::getId).collect(toList());
+
+        this.operations.deleteAllById(ids, this.information.createGremlinSource());
+    }
+
+    @Override
+    public void deleteAllById(@NonNull Iterable<ID> ids) {
+        if (this.information.isEntityGraph()) {
+            ids.forEach(this::deleteById);
+            return;
+        }
+
+        final List<Object> idList = StreamSupport.stream(ids.spliterator(), false).collect(toList());
+
+        this.operations.deleteAllById(idList, this.information.createGremlinSource());
     }
 
     @Override
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.support;
+
+
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceGraph;
+import com.microsoft.spring.data.gremlin.query.ReactiveGremlinOperations;
+import com.microsoft.spring.data.gremlin.repository.ReactiveGremlinRepository;
+import org.reactivestreams.Publisher;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import java.io.Serializable;
+
+public class SimpleReactiveGremlinRepository<T, ID extends Serializable> implements ReactiveGremlinRepository<T, ID> {
+
+    private final GremlinEntityInformation<T, ID> information;
+
+    private final ReactiveGremlinOperations operations;
+
+    public SimpleReactiveGremlinRepository(GremlinEntityInformation<T, ID> information,
+                                           @NonNull ReactiveGremlinOperations operations) {
+        this.operations = operations;
+        this.information = information;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends T> Mono<S> save(@NonNull S domain) {
+        final GremlinSource<T> source = this.information.createGremlinSource();
+
+        source.setId(this.information.getId(domain));
+
+        return (Mono<S>) this.operations.save(domain, source);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(@NonNull Iterable<S> domains) {
+        return Flux.fromIterable(domains).concatMap(this::save);
+    }
+
+    @Override
+    public <S extends T> Flux<S> saveAll(@NonNull Publisher<S> domains) {
+        return Flux.from(domains).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<T> findById(@NonNull ID id) {
+        return this.operations.findById(id, this.information.createGremlinSource());
+    }
+
+    @Override
+    public Mono<T> findById(@NonNull Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Boolean> existsById(@NonNull ID id) {
+        return this.operations.existsById(id, this.information.createGremlinSource());
+    }
+
+    @Override
+    public Mono<Boolean> existsById(@NonNull Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::existsById);
+    }
+
+    @Override
+    public Flux<T> findAll() {
+        final GremlinSource<T> source = this.information.createGremlinSource();
+
+        if (source instanceof GremlinSourceGraph) {
+            throw new UnsupportedOperationException("findAll of Graph is not supported");
+        }
+
+        return this.operations.findAll(source);
+    }
+
+    @Override
+    public Flux<T> findAllById(@NonNull Iterable<ID> ids) {
+        return Flux.fromIterable(ids).concatMap(this::findById);
+    }
+
+    @Override
+    public Flux<T> findAllById(@NonNull Publisher<ID> ids) {
+        return Flux.from(ids).concatMap(this::findById);
+    }
+
+    @Override
+    public Mono<Long> vertexCount() {
+        return this.operations.vertexCount();
+    }
+
+    @Override
+    public Mono<Long> edgeCount() {
+        return this.operations.edgeCount();
+    }
+
+    /**
+     * The total number of vertex and edge, vertexCount and edgeCount is also available.
+     *
+     * @return the count of both vertex and edge.
+     */
+    @Override
+    public Mono<Long> count() {
+        return Mono.zip(this.vertexCount(), this.edgeCount(), Long::sum);
+    }
+
+    @Override
+    public Mono<Void> deleteById(@NonNull ID id) {
+        return this.operations.deleteById(id, this.information.createGremlinSource());
+    }
+
+    @Override
+    public Mono<Void> deleteById(@NonNull Publisher<ID> id) {
+        return Mono.from(id).flatMap(this::deleteById);
+    }
+
+    @Override
+    public Mono<Void> delete(@NonNull T domain) {
+        return this.operations.deleteById(this.information.getId(domain), this.information.createGremlinSource());
+    }
+
+    @Override
+    public Mono<Void> deleteAll(@NonNull Iterable<? extends T> domains) {
+        return Flux.fromIterable(domains).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll(@NonNull Publisher<? extends T> domains) {
+        return Flux.from(domains).concatMap(this::delete).then();
+    }
+
+    @Override
+    public Mono<Void> deleteAll() {
+        return this.operations.deleteAll();
+    }
+}
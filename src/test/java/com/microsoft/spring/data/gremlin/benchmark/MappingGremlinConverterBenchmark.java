@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.benchmark;
+
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.common.domain.Project;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan;
+import com.microsoft.spring.data.gremlin.conversion.GremlinMappingPlan.PropertyPlan;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per entity cost of creating a domain and setting its properties, the way the readers did before the mapping
+ * plan, through the constructor and fields found by reflection, and the way they do now, through the entity
+ * instantiator and property accessor generated by Spring Data. Not part of the unit tests, run the main method.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingGremlinConverterBenchmark {
+
+    private static final String VALUE = "value";
+
+    private MappingGremlinConverter converter;
+
+    private GremlinMappingPlan mappingPlan;
+
+    private List<Field> fields;
+
+    @Setup
+    public void setup() {
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+
+        mappingContext.afterPropertiesSet();
+        mappingContext.getPersistentEntity(Project.class);
+
+        this.converter = new MappingGremlinConverter(mappingContext);
+        this.mappingPlan = this.converter.getMappingPlan(Project.class);
+        this.fields = new ArrayList<>();
+
+        for (final PropertyPlan plan : this.mappingPlan.getProperties()) {
+            plan.getField().setAccessible(true);
+            this.fields.add(plan.getField());
+        }
+    }
+
+    @Benchmark
+    public Project reflection() throws IllegalAccessException {
+        final Project project = GremlinUtils.createInstance(Project.class);
+
+        for (final Field field : this.fields) {
+            field.set(project, VALUE);
+        }
+
+        return project;
+    }
+
+    @Benchmark
+    public Project generated() {
+        final Project project = this.converter.createInstance(Project.class);
+        final ConvertingPropertyAccessor accessor = this.converter.getPropertyAccessor(project);
+
+        for (final PropertyPlan plan : this.mappingPlan.getProperties()) {
+            accessor.setProperty(plan.getProperty(), VALUE);
+        }
+
+        return project;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MappingGremlinConverterBenchmark.class.getSimpleName()).build())
+            .run();
+    }
+}
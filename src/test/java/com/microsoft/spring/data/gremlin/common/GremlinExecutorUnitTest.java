@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class GremlinExecutorUnitTest {
+
+    private static final Executor REJECTING_EXECUTOR = command -> {
+        throw new RejectedExecutionException("saturated");
+    };
+
+    private static GremlinConfig createConfig(int poolSize, int queueCapacity, GremlinExecutor.RejectionPolicy policy) {
+        return GremlinConfig.builder(TestConstants.FAKE_ENDPOINT, TestConstants.FAKE_USERNAME,
+            TestConstants.FAKE_PASSWORD)
+            .executorPoolSize(poolSize)
+            .executorQueueCapacity(queueCapacity)
+            .executorRejectionPolicy(policy)
+            .build();
+    }
+
+    @Test
+    public void testCallerRunsWhenRejected() {
+        final GremlinExecutor executor = new GremlinExecutor(REJECTING_EXECUTOR,
+            GremlinExecutor.RejectionPolicy.CALLER_RUNS);
+        final AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.execute(() -> thread.set(Thread.currentThread()));
+
+        Assert.assertEquals(thread.get(), Thread.currentThread());
+        Assert.assertEquals(executor.getMetrics().getRejectedCount(), 1);
+        Assert.assertEquals(executor.getMetrics().getCompletedCount(), 1);
+        Assert.assertEquals(executor.getMetrics().getQueuedCount(), 0);
+    }
+
+    @Test
+    public void testAbortWhenRejected() {
+        final GremlinExecutor executor = new GremlinExecutor(REJECTING_EXECUTOR,
+            GremlinExecutor.RejectionPolicy.ABORT);
+
+        try {
+            executor.execute(() -> Assert.fail("rejected task should not run"));
+            Assert.fail("RejectedExecutionException expected");
+        } catch (RejectedExecutionException e) {
+            Assert.assertEquals(executor.getMetrics().getRejectedCount(), 1);
+            Assert.assertEquals(executor.getMetrics().getQueuedCount(), 0);
+        }
+    }
+
+    @Test
+    public void testBoundedPoolMetrics() throws InterruptedException {
+        final GremlinExecutor executor = GremlinExecutor.create(createConfig(1, 1,
+            GremlinExecutor.RejectionPolicy.ABORT));
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            executor.execute(() -> {
+                started.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            executor.execute(() -> { });
+
+            Assert.assertEquals(executor.getMetrics().getActiveCount(), 1);
+            Assert.assertEquals(executor.getMetrics().getQueuedCount(), 1);
+
+            try {
+                executor.execute(() -> { });
+                Assert.fail("RejectedExecutionException expected");
+            } catch (RejectedExecutionException e) {
+                Assert.assertEquals(executor.getMetrics().getRejectedCount(), 1);
+            }
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LazyVertexProxyUnitTest {
+
+    @Test
+    public void testLoadOnFirstAccess() {
+        final AtomicInteger loads = new AtomicInteger();
+        final Person person = new Person("123", "bill");
+        final Person proxy = LazyVertexProxy.create(Person.class, "123", () -> {
+            loads.incrementAndGet();
+            return person;
+        });
+
+        Assert.assertTrue(LazyVertexProxy.isProxy(proxy));
+        Assert.assertFalse(LazyVertexProxy.isProxy(person));
+        Assert.assertEquals(LazyVertexProxy.getId(proxy), "123");
+        Assert.assertEquals(GremlinUtils.getIdField(Person.class).getName(), "id");
+        Assert.assertFalse(LazyVertexProxy.isLoaded(proxy));
+        Assert.assertEquals(loads.get(), 0);
+
+        Assert.assertEquals(proxy.getName(), "bill");
+        Assert.assertEquals(proxy.getId(), "123");
+        Assert.assertTrue(LazyVertexProxy.isLoaded(proxy));
+        Assert.assertSame(LazyVertexProxy.unwrap(proxy), person);
+        Assert.assertSame(LazyVertexProxy.unwrap(person), person);
+        Assert.assertEquals(loads.get(), 1);
+    }
+
+    @Test(expected = GremlinQueryException.class)
+    public void testLoadMissingVertex() {
+        final Person proxy = LazyVertexProxy.create(Person.class, "123", () -> null);
+
+        proxy.getName();
+    }
+
+    @Test
+    public void testIsProxyable() {
+        Assert.assertTrue(LazyVertexProxy.isProxyable(Person.class));
+        Assert.assertFalse(LazyVertexProxy.isProxyable(String.class));
+        Assert.assertFalse(LazyVertexProxy.isProxyable(int.class));
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.common;
+
+import org.junit.Assert;
+import org.junit.Test;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LruGremlinDomainCacheUnitTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    public void testEvictLeastRecentlyUsed() {
+        final GremlinDomainCache cache = LruGremlinDomainCache.builder().maxSize(2).build();
+
+        cache.put("1", "one");
+        cache.put("2", "two");
+
+        Assert.assertEquals(cache.get("1"), "one");
+
+        cache.put("3", "three");
+
+        Assert.assertNull(cache.get("2"));
+        Assert.assertEquals(cache.get("1"), "one");
+        Assert.assertEquals(cache.get("3"), "three");
+        Assert.assertEquals(cache.size(), 2L);
+
+        final GremlinDomainCacheStats stats = cache.getStats();
+
+        Assert.assertEquals(stats.getHitCount(), 3L);
+        Assert.assertEquals(stats.getMissCount(), 1L);
+        Assert.assertEquals(stats.getEvictionCount(), 1L);
+        Assert.assertEquals(stats.getSize(), 2L);
+        Assert.assertEquals(stats.getHitRate(), 0.75, 0.0);
+    }
+
+    @Test
+    public void testEvictByWeight() {
+        final GremlinDomainCache cache = LruGremlinDomainCache.builder()
+            .maxWeight(5)
+            .weigher(value -> ((String) value).length())
+            .build();
+
+        cache.put("1", "one");
+        cache.put("2", "two");
+
+        Assert.assertNull(cache.get("1"));
+        Assert.assertEquals(cache.get("2"), "two");
+
+        cache.put("3", "too heavy");
+
+        Assert.assertNull(cache.get("3"));
+        Assert.assertEquals(cache.get("2"), "two");
+        Assert.assertEquals(cache.getStats().getEvictionCount(), 2L);
+    }
+
+    @Test
+    public void testExpireAfterWrite() {
+        final GremlinDomainCache cache = LruGremlinDomainCache.builder()
+            .expireAfterWrite(10)
+            .ticker(this.now::get)
+            .build();
+
+        cache.put("1", "one");
+        this.now.addAndGet(TimeUnit.MILLISECONDS.toNanos(9));
+
+        Assert.assertEquals(cache.get("1"), "one");
+
+        this.now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+        Assert.assertNull(cache.get("1"));
+        Assert.assertEquals(cache.size(), 0L);
+    }
+
+    @Test
+    public void testExpireAfterAccess() {
+        final GremlinDomainCache cache = LruGremlinDomainCache.builder()
+            .expireAfterAccess(10)
+            .ticker(this.now::get)
+            .build();
+
+        cache.put("1", "one");
+        cache.put("2", "two");
+        this.now.addAndGet(TimeUnit.MILLISECONDS.toNanos(6));
+
+        Assert.assertEquals(cache.get("1"), "one");
+
+        this.now.addAndGet(TimeUnit.MILLISECONDS.toNanos(6));
+        cache.put("3", "three");
+
+        Assert.assertEquals(cache.size(), 2L);
+        Assert.assertEquals(cache.get("1"), "one");
+        Assert.assertNull(cache.get("2"));
+    }
+
+    @Test
+    public void testEvictAll() {
+        final GremlinDomainCache cache = LruGremlinDomainCache.builder().build();
+
+        cache.put("1", "one");
+        cache.put("2", "two");
+        cache.put("3", "three");
+        cache.evictAll(Arrays.asList("1", "3"));
+
+        Assert.assertEquals(cache.size(), 1L);
+        Assert.assertEquals(cache.get("2"), "two");
+
+        cache.clear();
+
+        Assert.assertEquals(cache.size(), 0L);
+    }
+}
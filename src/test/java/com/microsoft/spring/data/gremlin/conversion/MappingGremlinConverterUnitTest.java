@@ -21,6 +21,9 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @RunWith(MockitoJUnitRunner.class)
 public class MappingGremlinConverterUnitTest {
@@ -55,6 +58,37 @@ public class MappingGremlinConverterUnitTest {
         Assert.assertEquals(converter.getIdFieldValue(person), TestConstants.VERTEX_PERSON_ID);
     }
 
+    @Test
+    public void testGeneratedInstantiatorAndAccessor() {
+        final Person person = this.converter.createInstance(Person.class);
+
+        Assert.assertNotNull(person);
+        Assert.assertNull(person.getId());
+        Assert.assertTrue(this.mappingContext.getPersistentEntity(Person.class).getPropertyAccessor(person)
+            .getClass().getName().contains("_Accessor_"));
+    }
+
+    @Test
+    public void testMappingPlan() {
+        final GremlinMappingPlan plan = this.converter.getMappingPlan(Relationship.class);
+        final List<String> names = plan.getProperties().stream().map(GremlinMappingPlan.PropertyPlan::getName)
+            .collect(Collectors.toList());
+
+        Assert.assertSame(this.converter.getMappingPlan(Relationship.class), plan);
+        Assert.assertEquals(plan.getDomainClass(), Relationship.class);
+        Assert.assertEquals(names, Arrays.asList("id", "name", "location", "person", "project"));
+        Assert.assertTrue(plan.getProperties().get(0).isId());
+        Assert.assertFalse(plan.getProperties().get(1).isId());
+        Assert.assertNotNull(plan.getEdgeFrom());
+        Assert.assertNotNull(plan.getEdgeTo());
+        Assert.assertEquals(plan.getEdgeFrom().getName(), "person");
+        Assert.assertTrue(plan.getEdgeFrom().isEdgeFrom());
+        Assert.assertEquals(plan.getEdgeTo().getName(), "project");
+        Assert.assertTrue(plan.getEdgeTo().isEdgeTo());
+        Assert.assertFalse(plan.isTransientClassNameField());
+        Assert.assertNull(this.converter.getMappingPlan(Person.class).getEdgeFrom());
+    }
+
     @Test
     public void testMappingGremlinConverterVertexRead() {
         final Person person = new Person(TestConstants.VERTEX_PERSON_ID, TestConstants.VERTEX_PERSON_NAME);
@@ -21,6 +21,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -56,7 +57,7 @@ public class GremlinScriptLiteralEdgeUnitTest {
     @Test
     public void testGenerateCountScript() {
         final List<String> queryList = new GremlinScriptLiteralEdge().generateCountScript(gremlinSource);
-        assertEquals(queryList.get(0), "g.E()");
+        assertEquals(queryList.get(0), "g.E().count()");
     }
 
     @Test
@@ -96,6 +97,95 @@ public class GremlinScriptLiteralEdgeUnitTest {
                 ".property(single, '_classname', 'com.microsoft.spring.data.gremlin.common.domain.Relationship')");
     }
 
+    @Test
+    public void testGenerateFindAllByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge()
+                .generateFindAllByIdScript(gremlinSource, Arrays.asList("456", 789L));
+        assertEquals(queryList.get(0), "g.E().hasId(within('456', 789))");
+    }
+
+    @Test
+    public void testGenerateDeleteAllByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge()
+                .generateDeleteAllByIdScript(gremlinSource, Arrays.asList("456", "789"));
+        assertEquals(queryList.get(0), "g.E().hasId(within('456', '789')).drop()");
+    }
+
+    @Test
+    public void testGenerateExistsByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateExistsByIdScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.E().hasId('456').limit(1).count()");
+    }
+
+    @Test
+    public void testGenerateExistsByLabelScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateExistsByLabelScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.E().has(label, 'label-relationship').limit(1).count()");
+    }
+
+    @Test
+    public void testGenerateUpsertScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge().generateUpsertScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.E().hasId('456').fold()" +
+                ".coalesce(unfold(), addE('label-relationship').from(V('123')).to(V('321')).property(id, '456'))" +
+                ".property(single, 'person', '{\"id\":\"123\",\"name\":\"bill\"}')" +
+                ".property(single, 'name', 'rel-name')" +
+                ".property(single, 'project', '{\"id\":\"321\",\"name\":\"ms-project\",\"uri\":\"http\"}')" +
+                ".property(single, 'location', 'china')" +
+                ".property(single, '_classname', 'com.microsoft.spring.data.gremlin.common.domain.Relationship')");
+    }
+
+    @Test
+    public void testGenerateFindVertexIdsScript() {
+        final List<String> queryList = new GremlinScriptLiteralEdge()
+                .generateFindVertexIdsScript(Arrays.asList("123", 321L), GremlinScriptBindings.inline());
+        assertEquals(queryList.get(0), "g.V('123', 321).id()");
+
+        final GremlinScriptBindings bindings = GremlinScriptBindings.parameterized();
+        final List<String> boundList = new GremlinScriptLiteralEdge()
+                .generateFindVertexIdsScript(Arrays.asList("123", "321"), bindings);
+        assertEquals(boundList.get(0), "g.V(p0, p1).id()");
+        assertEquals(bindings.getBindings().size(), 2);
+    }
+
+    @Test
+    public void testGenerateBatchScript() {
+        final GremlinScriptLiteralEdge literal = new GremlinScriptLiteralEdge();
+        final GremlinScriptBindings bindings = GremlinScriptBindings.inline();
+        final List<String> vertexScripts = Arrays.asList(
+                literal.generateBatchVertexScript("123", 0, bindings),
+                literal.generateBatchVertexScript("321", 1, bindings));
+        final List<String> elementScripts = Arrays.asList(
+                literal.generateBatchElementScript(gremlinSource, 0, 0, 1, bindings),
+                literal.generateBatchElementScript(gremlinSource, 1, 1, 0, bindings));
+        final List<String> queryList = literal.generateBatchScript(vertexScripts, elementScripts);
+
+        assertEquals(queryList.get(0), "g.V('123').as('n0').V('321').as('n1')" +
+                ".coalesce(select('n0').outE('label-relationship').hasId('456')," +
+                " addE('label-relationship').from('n0').to('n1').property(id, '456'))" +
+                ".property(single, 'person', '{\"id\":\"123\",\"name\":\"bill\"}')" +
+                ".property(single, 'name', 'rel-name')" +
+                ".property(single, 'project', '{\"id\":\"321\",\"name\":\"ms-project\",\"uri\":\"http\"}')" +
+                ".property(single, 'location', 'china')" +
+                ".property(single, '_classname', 'com.microsoft.spring.data.gremlin.common.domain.Relationship')" +
+                ".id().as('e0')" +
+                ".coalesce(select('n1').outE('label-relationship').hasId('456')," +
+                " addE('label-relationship').from('n1').to('n0').property(id, '456'))" +
+                ".property(single, 'person', '{\"id\":\"123\",\"name\":\"bill\"}')" +
+                ".property(single, 'name', 'rel-name')" +
+                ".property(single, 'project', '{\"id\":\"321\",\"name\":\"ms-project\",\"uri\":\"http\"}')" +
+                ".property(single, 'location', 'china')" +
+                ".property(single, '_classname', 'com.microsoft.spring.data.gremlin.common.domain.Relationship')" +
+                ".id().as('e1')" +
+                ".select('e0', 'e1')");
+    }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testInvalidBatchElementScript() {
+        new GremlinScriptLiteralEdge().generateBatchElementScript(new GremlinSourceVertex(), 0, 0, 1,
+                GremlinScriptBindings.inline());
+    }
+
     @Test
     public void testGenerateDeleteByIdScript() {
         final List<String> queryList = new GremlinScriptLiteralEdge().generateDeleteByIdScript(gremlinSource);
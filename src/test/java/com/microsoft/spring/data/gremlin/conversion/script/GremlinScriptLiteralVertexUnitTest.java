@@ -13,15 +13,29 @@ import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceEdge;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
 import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationContext;
+import org.springframework.lang.NonNull;
+import javax.script.Bindings;
+import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 
 @RunWith(MockitoJUnitRunner.class)
 public class GremlinScriptLiteralVertexUnitTest {
@@ -47,10 +61,55 @@ public class GremlinScriptLiteralVertexUnitTest {
         this.converter.write(person, gremlinSource);
     }
 
+    private GremlinSource toSource(@NonNull Person person) {
+        @SuppressWarnings("unchecked") final GremlinEntityInformation info = GremlinEntityInformation.get(Person.class);
+        final GremlinSource source = info.createGremlinSource();
+
+        this.converter.write(person, source);
+
+        return source;
+    }
+
+    @Test
+    public void testBatchScriptOnGraph() throws ScriptException {
+        final Graph graph = TinkerGraph.open();
+        final GremlinScriptLiteralVertex literal = new GremlinScriptLiteralVertex();
+        final GremlinScriptBindings bindings = GremlinScriptBindings.parameterized();
+        final List<Person> persons = Arrays.asList(new Person("2", "tom"), new Person("1", "bill"),
+                new Person("3", "jack"), new Person(null, "anna"));
+        final List<String> elementScripts = new ArrayList<>();
+
+        graph.addVertex(T.id, "1", T.label, "label-person", "name", "old");
+
+        for (int i = 0; i < persons.size(); i++) {
+            elementScripts.add(literal.generateBatchElementScript(toSource(persons.get(i)), i, bindings));
+        }
+
+        final Bindings scriptBindings = new SimpleBindings(new HashMap<>(bindings.getBindings()));
+
+        scriptBindings.put("g", graph.traversal());
+
+        final Object traversal = new GremlinGroovyScriptEngine()
+                .eval(literal.generateBatchScript(elementScripts).get(0), scriptBindings);
+        final List<?> results = ((Traversal<?, ?>) traversal).toList();
+
+        assertEquals(results.size(), 1);
+
+        final Map<?, ?> ids = (Map<?, ?>) results.get(0);
+
+        assertEquals(ids.get("v0"), "2");
+        assertEquals(ids.get("v1"), "1");
+        assertEquals(ids.get("v2"), "3");
+        assertNotNull(ids.get("v3"));
+        assertEquals(graph.traversal().V().count().next(), Long.valueOf(4));
+        assertEquals(graph.traversal().V("1").values("name").next(), "bill");
+        assertEquals(graph.traversal().V("3").values("name").next(), "jack");
+    }
+
     @Test
     public void testGenerateCountScript() {
         final List<String> queryList = new GremlinScriptLiteralVertex().generateCountScript(gremlinSource);
-        assertEquals(queryList.get(0), "g.V()");
+        assertEquals(queryList.get(0), "g.V().count()");
     }
 
     @Test
@@ -73,6 +132,28 @@ public class GremlinScriptLiteralVertexUnitTest {
                 ".property('_classname', 'com.microsoft.spring.data.gremlin.common.domain.Person')");
     }
 
+    @Test
+    public void testGenerateParameterizedInsertScript() {
+        final GremlinScriptBindings bindings = GremlinScriptBindings.parameterized();
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateInsertScript(gremlinSource, bindings);
+
+        assertEquals(queryList.get(0), "g.addV('label-person').property(id, p0).property('name', p1)" +
+                ".property('_classname', p2)");
+        assertEquals(bindings.getBindings().get("p0"), "123");
+        assertEquals(bindings.getBindings().get("p1"), "bill");
+        assertEquals(bindings.getBindings().get("p2"), Person.class.getName());
+    }
+
+    @Test
+    public void testGenerateParameterizedFindByIdScript() {
+        final GremlinScriptBindings bindings = GremlinScriptBindings.parameterized();
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateFindByIdScript(gremlinSource, bindings);
+
+        assertEquals(queryList.get(0), "g.V().hasId(p0)");
+        assertEquals(bindings.getBindings().size(), 1);
+        assertEquals(bindings.getBindings().get("p0"), "123");
+    }
+
     @Test
     public void testGenerateUpdateScript() {
         final List<String> queryList = new GremlinScriptLiteralVertex().generateUpdateScript(gremlinSource);
@@ -80,6 +161,52 @@ public class GremlinScriptLiteralVertexUnitTest {
                 ".property(single, '_classname', 'com.microsoft.spring.data.gremlin.common.domain.Person')");
     }
 
+    @Test
+    public void testGenerateFindAllByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex()
+                .generateFindAllByIdScript(gremlinSource, Arrays.asList("123", "456"));
+        assertEquals(queryList.get(0), "g.V().hasId(within('123', '456'))");
+
+        final GremlinScriptBindings bindings = GremlinScriptBindings.parameterized();
+        final List<String> boundList = new GremlinScriptLiteralVertex()
+                .generateFindAllByIdScript(gremlinSource, Arrays.asList("123", "456"), bindings);
+        assertEquals(boundList.get(0), "g.V().hasId(within(p0, p1))");
+        assertEquals(bindings.getBindings().get("p1"), "456");
+    }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testInvalidFindAllByIdScript() {
+        new GremlinScriptLiteralVertex().generateFindAllByIdScript(new GremlinSourceEdge(), Arrays.asList("123"));
+    }
+
+    @Test
+    public void testGenerateDeleteAllByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex()
+                .generateDeleteAllByIdScript(gremlinSource, Arrays.asList("123", "456"));
+        assertEquals(queryList.get(0), "g.V().hasId(within('123', '456')).drop()");
+    }
+
+    @Test
+    public void testGenerateExistsByIdScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateExistsByIdScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.V().hasId('123').limit(1).count()");
+    }
+
+    @Test
+    public void testGenerateExistsByLabelScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateExistsByLabelScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.V().has(label, 'label-person').limit(1).count()");
+    }
+
+    @Test
+    public void testGenerateUpsertScript() {
+        final List<String> queryList = new GremlinScriptLiteralVertex().generateUpsertScript(gremlinSource);
+        assertEquals(queryList.get(0), "g.V().hasId('123').fold()" +
+                ".coalesce(unfold(), addV('label-person').property(id, '123'))" +
+                ".property(single, 'name', 'bill')" +
+                ".property(single, '_classname', 'com.microsoft.spring.data.gremlin.common.domain.Person')");
+    }
+
     @Test
     public void testGenerateDeleteByIdScript() {
         final List<String> queryList = new GremlinScriptLiteralVertex().generateDeleteByIdScript(gremlinSource);
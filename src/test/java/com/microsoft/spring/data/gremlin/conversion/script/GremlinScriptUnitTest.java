@@ -72,6 +72,17 @@ public class GremlinScriptUnitTest {
         new GremlinScriptLiteralGraph().generateCountScript(new GremlinSourceVertex());
     }
 
+    @Test
+    public void testGraphIsEmptyScript() {
+        Assert.assertEquals(new GremlinScriptLiteralGraph().generateIsEmptyScript(),
+            singletonList("g.V().limit(1).count()"));
+    }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testVertexExistsByLabelScriptException() {
+        new GremlinScriptLiteralVertex().generateExistsByLabelScript(new GremlinSourceEdge());
+    }
+
     @Test(expected = GremlinUnexpectedSourceTypeException.class)
     public void testEdgeCountScriptException() {
         new GremlinScriptLiteralEdge().generateCountScript(new GremlinSourceVertex());
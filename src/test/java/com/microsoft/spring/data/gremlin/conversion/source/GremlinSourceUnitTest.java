@@ -9,10 +9,13 @@ package com.microsoft.spring.data.gremlin.conversion.source;
 import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
 import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
 import com.microsoft.spring.data.gremlin.annotation.Vertex;
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
 import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
 import com.microsoft.spring.data.gremlin.exception.GremlinEntityInformationException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -21,11 +24,16 @@ import org.springframework.boot.autoconfigure.domain.EntityScanner;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.SneakyThrows;
 
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PROPERTY_CLASSNAME;
+
 @RunWith(SpringJUnit4ClassRunner.class)
 public class GremlinSourceUnitTest {
 
@@ -93,6 +101,28 @@ public class GremlinSourceUnitTest {
         new GremlinSourceEdgeWriter().write(new TestEdge("fake-id", "fake-name", "1", "2"), this.converter, source);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testVertexWriteChangedProperties() {
+        final GremlinSource<Person> source = new GremlinSourceVertex(Person.class);
+        final Map<String, Object> snapshot = new HashMap<>();
+
+        source.setIdField(GremlinUtils.getIdField(Person.class));
+        snapshot.put("name", "bill");
+        snapshot.put(GREMLIN_PROPERTY_CLASSNAME, Person.class.getName());
+
+        new GremlinSourceVertexWriter().write(new Person("123", "bill"), this.converter, source);
+        Assert.assertEquals(source.getChangedProperties(), source.getProperties());
+
+        source.setSnapshot(snapshot);
+
+        new GremlinSourceVertexWriter().write(new Person("123", "bill"), this.converter, source);
+        Assert.assertTrue(source.getChangedProperties().isEmpty());
+
+        new GremlinSourceVertexWriter().write(new Person("123", "bob"), this.converter, source);
+        Assert.assertEquals(source.getChangedProperties(), Collections.singletonMap("name", "bob"));
+    }
+
     @Vertex
     @Data
     @AllArgsConstructor
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinFactory;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.lang.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GremlinAsyncTemplateUnitTest {
+
+    private static final String FAILED_QUERY = "g.V().hasId('failed').drop()";
+
+    @Mock
+    private GremlinFactory factory;
+
+    @Mock
+    private MappingGremlinConverter converter;
+
+    private GremlinTemplate template;
+
+    private GremlinAsyncTemplate asyncTemplate;
+
+    private final List<String> submitted = Collections.synchronizedList(new ArrayList<>());
+
+    @Before
+    public void setup() {
+        this.template = new GremlinTemplate(this.factory, this.converter) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.equals(FAILED_QUERY)) {
+                    final CompletableFuture<List<Result>> failure = new CompletableFuture<>();
+
+                    failure.completeExceptionally(new IllegalStateException("failed to drop vertex"));
+
+                    return failure;
+                }
+
+                return CompletableFuture.completedFuture(Collections.singletonList(new Result(3L)));
+            }
+        };
+        this.asyncTemplate = new GremlinAsyncTemplate(this.template);
+    }
+
+    @Test
+    public void testVertexCountAsync() {
+        Assert.assertEquals(this.asyncTemplate.vertexCountAsync().join().longValue(), 3L);
+        Assert.assertEquals(this.submitted, Collections.singletonList("g.V().count()"));
+    }
+
+    @Test
+    public void testEdgeCountAsync() {
+        Assert.assertEquals(this.asyncTemplate.edgeCountAsync().join().longValue(), 3L);
+        Assert.assertEquals(this.submitted, Collections.singletonList("g.E().count()"));
+    }
+
+    @Test
+    public void testFindByIdAsyncFromCache() {
+        final Person person = new Person("123", "bill");
+
+        this.template.getDomainCache(Person.class).put("123", person);
+
+        Assert.assertSame(this.asyncTemplate.findByIdAsync("123", Person.class).join(), person);
+        Assert.assertTrue(this.submitted.isEmpty());
+    }
+
+    @Test
+    public void testExistsByIdAsyncCountsOnServer() {
+        Assert.assertTrue(this.asyncTemplate.existsByIdAsync("123", Person.class).join());
+        Assert.assertEquals(this.submitted, Collections.singletonList("g.V().hasId('123').limit(1).count()"));
+    }
+
+    @Test
+    public void testDeleteByIdAsyncEvictsCache() {
+        this.template.getDomainCache(Person.class).put("123", new Person("123", "bill"));
+
+        this.asyncTemplate.deleteByIdAsync("123", Person.class).join();
+
+        Assert.assertNull(this.template.getDomainCache(Person.class).get("123"));
+        Assert.assertEquals(this.submitted, Collections.singletonList("g.V().hasId('123').drop()"));
+    }
+
+    @Test
+    public void testSaveAsyncUpsertsInOneQuery() {
+        this.template.getDomainCache(Person.class).put("123", new Person("123", "bill"));
+
+        this.asyncTemplate.saveAsync(new Person("123", "bob"), Person.class).join();
+
+        Assert.assertNull(this.template.getDomainCache(Person.class).get("123"));
+        Assert.assertEquals(this.submitted, Collections.singletonList(
+            "g.V().hasId('123').fold().coalesce(unfold(), addV('label-person').property(id, '123'))"
+                + ".property(single, '_classname', 'com.microsoft.spring.data.gremlin.common.domain.Person')"));
+    }
+
+    @Test
+    public void testDeleteByIdAsyncFailure() {
+        try {
+            this.asyncTemplate.deleteByIdAsync("failed", Person.class).join();
+            Assert.fail("CompletionException expected");
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof GremlinQueryException);
+            Assert.assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+        }
+    }
+}
@@ -0,0 +1,856 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.annotation.DomainCache;
+import com.microsoft.spring.data.gremlin.annotation.Edge;
+import com.microsoft.spring.data.gremlin.annotation.EdgeFrom;
+import com.microsoft.spring.data.gremlin.annotation.EdgeTo;
+import com.microsoft.spring.data.gremlin.annotation.Vertex;
+import com.microsoft.spring.data.gremlin.common.GremlinCachePolicy;
+import com.microsoft.spring.data.gremlin.common.GremlinConfig;
+import com.microsoft.spring.data.gremlin.common.GremlinDomainCacheStats;
+import com.microsoft.spring.data.gremlin.common.GremlinFactory;
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.common.LazyVertexProxy;
+import com.microsoft.spring.data.gremlin.common.LruGremlinDomainCache;
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.Orange;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.common.domain.Project;
+import com.microsoft.spring.data.gremlin.common.domain.Relationship;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSource;
+import com.microsoft.spring.data.gremlin.exception.GremlinEdgeBatchException;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.query.criteria.Criteria;
+import com.microsoft.spring.data.gremlin.query.criteria.CriteriaType;
+import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.repository.GremlinRepository;
+import com.microsoft.spring.data.gremlin.repository.support.GremlinRepositoryFactory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.lang.NonNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PROPERTY_CLASSNAME;
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_QUERY_BARRIER;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_ID;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_INV;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_LABEL;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_OUTV;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_PROPERTIES;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_TYPE;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_VALUE;
+import static com.microsoft.spring.data.gremlin.common.Constants.RESULT_TYPE_EDGE;
+import static com.microsoft.spring.data.gremlin.common.Constants.RESULT_TYPE_VERTEX;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GremlinTemplateUnitTest {
+
+    private static final String VERTEX_QUERY_0 = "g.addV('vertex-0')";
+    private static final String VERTEX_QUERY_1 = "g.addV('vertex-1')";
+    private static final String EDGE_QUERY = "g.V('vertex-0').as('from').V('vertex-1').as('to').addE('edge')";
+    private static final String FAILED_QUERY = "g.addV('failed')";
+    private static final int PERSON_COUNT = 5;
+
+    @Mock
+    private GremlinFactory factory;
+
+    @Mock
+    private MappingGremlinConverter converter;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private GremlinTemplate template;
+
+    private final List<String> submitted = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+    interface PersonRepository extends GremlinRepository<Person, String> {
+
+        Stream<Person> findByName(String name);
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Vertex
+    @DomainCache(policy = GremlinCachePolicy.NONE)
+    public static class Stock {
+
+        private String id;
+
+        private String name;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Vertex
+    @DomainCache(policy = GremlinCachePolicy.READ_THROUGH, maxSize = 1)
+    public static class Country {
+
+        private String id;
+
+        private String name;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @Edge(label = TestConstants.EDGE_RELATIONSHIP_LABEL)
+    public static class LazyRelationship {
+
+        private String id;
+
+        private String name;
+
+        @EdgeFrom(lazy = true)
+        private Person person;
+
+        @EdgeTo(lazy = true)
+        private Project project;
+    }
+
+    private static Object toProperty(Object value) {
+        final Map<String, Object> property = new HashMap<>();
+
+        property.put(PROPERTY_VALUE, value);
+
+        return new ArrayList<>(Collections.singletonList(property));
+    }
+
+    private static Result toVertexResult(@NonNull String id) {
+        return toVertexResult(id, Person.class, TestConstants.VERTEX_PERSON_LABEL);
+    }
+
+    private static Result toVertexResult(@NonNull String id, @NonNull Class<?> domainClass, @NonNull String label) {
+        final Map<String, Object> properties = new HashMap<>();
+        final Map<String, Object> vertex = new HashMap<>();
+
+        properties.put("name", toProperty("person-" + id));
+        properties.put(GREMLIN_PROPERTY_CLASSNAME, toProperty(domainClass.getName()));
+
+        vertex.put(PROPERTY_ID, id);
+        vertex.put(PROPERTY_LABEL, label);
+        vertex.put(PROPERTY_TYPE, RESULT_TYPE_VERTEX);
+        vertex.put(PROPERTY_PROPERTIES, properties);
+
+        return new Result(vertex);
+    }
+
+    private static Result toEdgeResult(@NonNull String id, @NonNull String fromId, @NonNull String toId) {
+        return toEdgeResult(id, fromId, toId, Relationship.class);
+    }
+
+    private static Result toEdgeResult(@NonNull String id, @NonNull String fromId, @NonNull String toId,
+                                       @NonNull Class<?> domainClass) {
+        final Map<String, Object> properties = new HashMap<>();
+        final Map<String, Object> edge = new HashMap<>();
+
+        properties.put("name", "relationship-" + id);
+        properties.put(GREMLIN_PROPERTY_CLASSNAME, domainClass.getName());
+
+        edge.put(PROPERTY_ID, id);
+        edge.put(PROPERTY_LABEL, TestConstants.EDGE_RELATIONSHIP_LABEL);
+        edge.put(PROPERTY_TYPE, RESULT_TYPE_EDGE);
+        edge.put(PROPERTY_OUTV, fromId);
+        edge.put(PROPERTY_INV, toId);
+        edge.put(PROPERTY_PROPERTIES, properties);
+
+        return new Result(edge);
+    }
+
+    private MappingGremlinConverter createConverter() {
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+
+        mappingContext.setApplicationContext(this.applicationContext);
+        mappingContext.afterPropertiesSet();
+        mappingContext.getPersistentEntity(Person.class);
+
+        return new MappingGremlinConverter(mappingContext);
+    }
+
+    private GremlinTemplate createStreamTemplate(@NonNull AtomicInteger read) {
+        return new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected Iterator<Result> submitStream(@NonNull String query, @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return new Iterator<Result>() {
+                    @Override
+                    public boolean hasNext() {
+                        return read.get() < PERSON_COUNT;
+                    }
+
+                    @Override
+                    public Result next() {
+                        return toVertexResult(String.valueOf(read.getAndIncrement()));
+                    }
+                };
+            }
+        };
+    }
+
+    @Before
+    public void setup() {
+        this.template = new GremlinTemplate(this.factory, this.converter) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.equals(FAILED_QUERY)) {
+                    final CompletableFuture<List<Result>> failure = new CompletableFuture<>();
+
+                    failure.completeExceptionally(new IllegalStateException("failed to add vertex"));
+
+                    return failure;
+                }
+
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+
+                    completed.add(query);
+
+                    return Collections.emptyList();
+                });
+            }
+        };
+    }
+
+    @Test
+    public void testCountSubmitsBothQueries() {
+        final GremlinTemplate countTemplate = new GremlinTemplate(this.factory, this.converter) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return CompletableFuture.completedFuture(
+                    Collections.singletonList(new Result(query.startsWith("g.V()") ? 3L : 4L)));
+            }
+        };
+
+        Assert.assertEquals(countTemplate.count(), 7L);
+        Assert.assertEquals(this.submitted.size(), 2);
+        Assert.assertTrue(this.submitted.containsAll(Arrays.asList("g.V().count()", "g.E().count()")));
+    }
+
+    @Test
+    public void testExecuteQueryWaitsAtBarrier() {
+        this.template.executeQuery(Arrays.asList(VERTEX_QUERY_0, VERTEX_QUERY_1, GREMLIN_QUERY_BARRIER, EDGE_QUERY));
+
+        Assert.assertEquals(this.completed.size(), 3);
+        Assert.assertEquals(this.completed.get(2), EDGE_QUERY);
+        Assert.assertFalse(this.submitted.contains(GREMLIN_QUERY_BARRIER));
+    }
+
+    @Test
+    public void testExecuteQueryFailsFastWithinStage() {
+        try {
+            this.template.executeQuery(Arrays.asList(FAILED_QUERY, VERTEX_QUERY_0, GREMLIN_QUERY_BARRIER, EDGE_QUERY));
+            Assert.fail("GremlinQueryException expected");
+        } catch (GremlinQueryException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        Assert.assertFalse(this.submitted.contains(EDGE_QUERY));
+    }
+
+    @Test
+    public void testStreamAllReadsOnDemand() {
+        final AtomicInteger read = new AtomicInteger();
+        final GremlinTemplate streamTemplate = this.createStreamTemplate(read);
+
+        try (Stream<Person> persons = streamTemplate.streamAll(Person.class)) {
+            final Iterator<Person> iterator = persons.iterator();
+
+            Assert.assertEquals(read.get(), 0);
+            Assert.assertEquals(iterator.next().getName(), "person-0");
+            Assert.assertEquals(read.get(), 1);
+        }
+
+        Assert.assertEquals(streamTemplate.getDomainCache(Person.class).size(), 0L);
+    }
+
+    @Test
+    public void testStreamCloseStopsReading() {
+        final AtomicInteger read = new AtomicInteger();
+        final Stream<Person> persons = this.createStreamTemplate(read).streamAll(Person.class);
+        final Iterator<Person> iterator = persons.iterator();
+
+        Assert.assertEquals(iterator.next().getId(), "0");
+
+        persons.close();
+
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertEquals(read.get(), 1);
+    }
+
+    @Test
+    public void testStreamEdgesBatchesVertices() {
+        final GremlinTemplate streamTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected Iterator<Result> submitStream(@NonNull String query, @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return Arrays.asList(toEdgeResult("e0", "1", "2"), toEdgeResult("e1", "4", "3")).iterator();
+            }
+
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.contains("'1'")) {
+                    return CompletableFuture.completedFuture(Arrays.asList(toVertexResult("1"),
+                        toVertexResult("4")));
+                }
+
+                return CompletableFuture.completedFuture(Arrays.asList(
+                    toVertexResult("2", Project.class, TestConstants.VERTEX_PROJECT_LABEL),
+                    toVertexResult("3", Project.class, TestConstants.VERTEX_PROJECT_LABEL)));
+            }
+        };
+
+        try (Stream<Relationship> relationships = streamTemplate.streamAll(Relationship.class)) {
+            final List<Relationship> found = relationships.collect(Collectors.toList());
+
+            Assert.assertEquals(found.size(), 2);
+            Assert.assertEquals(found.get(1).getPerson().getId(), "4");
+            Assert.assertEquals(found.get(1).getProject().getId(), "3");
+        }
+
+        Assert.assertEquals(this.submitted.size(), 3);
+        Assert.assertTrue(this.submitted.contains("g.V().hasId(within('1', '4'))"));
+        Assert.assertTrue(this.submitted.contains("g.V().hasId(within('2', '3'))"));
+        Assert.assertEquals(streamTemplate.getDomainCache(Person.class).size(), 0L);
+        Assert.assertEquals(streamTemplate.getDomainCache(Project.class).size(), 0L);
+    }
+
+    @Test
+    public void testDerivedStreamQuery() {
+        final GremlinTemplate streamTemplate = this.createStreamTemplate(new AtomicInteger());
+        final PersonRepository repository = new GremlinRepositoryFactory(streamTemplate, this.applicationContext)
+            .getRepository(PersonRepository.class);
+
+        try (Stream<Person> persons = repository.findByName("person-0")) {
+            Assert.assertEquals(persons.map(Person::getId).collect(Collectors.toList()),
+                Arrays.asList("0", "1", "2", "3", "4"));
+        }
+
+        Assert.assertEquals(this.submitted,
+            Collections.singletonList("g.V().has(label, 'label-person').where(has('name', 'person-0'))"));
+    }
+
+    @Test
+    public void testSaveAllWritesVerticesInOneQuery() {
+        final GremlinTemplate batchTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                final Map<String, Object> ids = new HashMap<>();
+
+                submitted.add(query);
+                ids.put("v0", "0");
+                ids.put("v1", "generated-1");
+
+                return CompletableFuture.completedFuture(Collections.singletonList(new Result(ids)));
+            }
+        };
+        final Person person = new Person("0", "person-0");
+        final Orange orange = new Orange("china", 1.0);
+
+        Assert.assertEquals(batchTemplate.saveAll(Arrays.asList(person, orange)), Arrays.asList(person, orange));
+        Assert.assertEquals(orange.getId(), "generated-1");
+        Assert.assertEquals(this.submitted.size(), 1);
+        Assert.assertTrue(this.submitted.get(0).startsWith("g.V().hasId('0').fold()"));
+        Assert.assertTrue(this.submitted.get(0).contains(".id().as('v0').addV('Orange')"));
+        Assert.assertTrue(this.submitted.get(0).endsWith(".id().as('v1').select('v0', 'v1')"));
+    }
+
+    @Test
+    public void testSaveAllSkipsEdgesMissingEndpoints() {
+        final GremlinTemplate batchTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.endsWith(".id()")) {
+                    return CompletableFuture.completedFuture(Arrays.asList(new Result("123"), new Result("321")));
+                }
+
+                return CompletableFuture.completedFuture(Collections.singletonList(new Result("456")));
+            }
+        };
+        final Person person = new Person("123", "bill");
+        final Relationship written = new Relationship("456", "rel-name", "china", person,
+            new Project("321", "ms-project", "http"));
+        final Relationship missing = new Relationship("654", "rel-name", "china", person,
+            new Project("999", "ms-project", "http"));
+
+        try {
+            batchTemplate.saveAll(Arrays.asList(written, missing));
+            Assert.fail("GremlinEdgeBatchException expected");
+        } catch (GremlinEdgeBatchException e) {
+            Assert.assertEquals(e.getFailures().size(), 1);
+            Assert.assertEquals(e.getFailures().get(0).getIndex(), 1);
+            Assert.assertSame(e.getFailures().get(0).getEdge(), missing);
+            Assert.assertEquals(e.getFailures().get(0).getMissingVertexIds(), Collections.singletonList("999"));
+        }
+
+        Assert.assertEquals(this.submitted.size(), 2);
+        Assert.assertEquals(this.submitted.get(0), "g.V('123', '321', '999').id()");
+        Assert.assertTrue(this.submitted.get(1).startsWith("g.V('123').as('n0').V('321').as('n1').coalesce("));
+        Assert.assertTrue(this.submitted.get(1).endsWith(".id().as('e0')"));
+    }
+
+    @Test
+    public void testFindAllByIdServesCacheFirst() {
+        final GremlinTemplate findTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return CompletableFuture.completedFuture(Arrays.asList(toVertexResult("2"), toVertexResult("0")));
+            }
+        };
+        final Person cached = new Person("1", "cached");
+
+        findTemplate.getDomainCache(Person.class).put("1", cached);
+
+        final List<Person> persons = findTemplate.findAllById(Arrays.asList("0", "1", "2", "3"), Person.class);
+
+        Assert.assertEquals(persons.stream().map(Person::getId).collect(Collectors.toList()),
+            Arrays.asList("0", "1", "2"));
+        Assert.assertSame(persons.get(1), cached);
+        Assert.assertEquals(this.submitted, Collections.singletonList("g.V().hasId(within('0', '2', '3'))"));
+        Assert.assertNotNull(findTemplate.getDomainCache(Person.class).get("2"));
+    }
+
+    @Test
+    public void testLazyEdgeVerticesLoadOnAccess() {
+        final GremlinTemplate findTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.startsWith("g.E(")) {
+                    return CompletableFuture.completedFuture(Collections.singletonList(
+                        toEdgeResult("e0", "1", "2", LazyRelationship.class)));
+                }
+
+                return CompletableFuture.completedFuture(Collections.singletonList(toVertexResult("1")));
+            }
+        };
+        final Project cached = new Project("2", "ms-project", "http");
+
+        findTemplate.getDomainCache(Project.class).put("2", cached);
+
+        final LazyRelationship relationship = findTemplate.findEdgeById("e0",
+            GremlinUtils.toGremlinSource(LazyRelationship.class));
+
+        Assert.assertEquals(this.submitted.size(), 1);
+        Assert.assertSame(relationship.getProject(), cached);
+        Assert.assertTrue(LazyVertexProxy.isProxy(relationship.getPerson()));
+        Assert.assertEquals(LazyVertexProxy.getId(relationship.getPerson()), "1");
+
+        Assert.assertEquals(relationship.getPerson().getName(), "person-1");
+        Assert.assertEquals(this.submitted.size(), 2);
+        Assert.assertEquals(relationship.getPerson().getId(), "1");
+        Assert.assertEquals(this.submitted.size(), 2);
+    }
+
+    @Test
+    public void testSaveEdgeWithLazyVertices() {
+        final GremlinTemplate findTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (!query.startsWith("g.V(")) {
+                    return CompletableFuture.completedFuture(Collections.singletonList(
+                        toEdgeResult("e0", "1", "2", LazyRelationship.class)));
+                }
+
+                return CompletableFuture.completedFuture(Collections.singletonList(
+                    toVertexResult("2", Project.class, TestConstants.VERTEX_PROJECT_LABEL)));
+            }
+        };
+        final LazyRelationship relationship = findTemplate.findEdgeById("e0",
+            GremlinUtils.toGremlinSource(LazyRelationship.class));
+
+        relationship.getProject().getName();
+        relationship.setName("renamed");
+        this.submitted.clear();
+
+        final GremlinSource<LazyRelationship> source = GremlinUtils.toGremlinSource(LazyRelationship.class);
+
+        source.setId(relationship.getId());
+        findTemplate.save(relationship, source);
+
+        Assert.assertEquals(this.submitted.size(), 1);
+        Assert.assertTrue(this.submitted.get(0).contains("'renamed'"));
+        Assert.assertFalse(this.submitted.get(0).contains("'person'"));
+        Assert.assertTrue(this.submitted.get(0).contains("'project', '{"));
+        Assert.assertFalse(LazyVertexProxy.isLoaded(relationship.getPerson()));
+    }
+
+    @Test
+    public void testFindAllByIdBatchesEdgeVertices() {
+        final GremlinTemplate findTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.startsWith("g.E()")) {
+                    return CompletableFuture.completedFuture(Arrays.asList(toEdgeResult("e0", "1", "2"),
+                        toEdgeResult("e1", "1", "3"), toEdgeResult("e2", "4", "2")));
+                } else if (query.contains("'4'")) {
+                    return CompletableFuture.completedFuture(Collections.singletonList(toVertexResult("4")));
+                }
+
+                return CompletableFuture.completedFuture(Arrays.asList(
+                    toVertexResult("2", Project.class, TestConstants.VERTEX_PROJECT_LABEL),
+                    toVertexResult("3", Project.class, TestConstants.VERTEX_PROJECT_LABEL)));
+            }
+        };
+        final Person cached = new Person("1", "cached");
+
+        findTemplate.getDomainCache(Person.class).put("1", cached);
+
+        final List<Relationship> relationships = findTemplate.findAllById(Arrays.asList("e0", "e1", "e2"),
+            Relationship.class);
+
+        Assert.assertEquals(relationships.size(), 3);
+        Assert.assertSame(relationships.get(0).getPerson(), cached);
+        Assert.assertSame(relationships.get(1).getPerson(), cached);
+        Assert.assertEquals(relationships.get(2).getPerson().getId(), "4");
+        Assert.assertSame(relationships.get(0).getProject(), relationships.get(2).getProject());
+        Assert.assertEquals(relationships.get(1).getProject().getId(), "3");
+        Assert.assertEquals(this.submitted.size(), 3);
+        Assert.assertTrue(this.submitted.contains("g.V().hasId(within('4'))"));
+        Assert.assertTrue(this.submitted.contains("g.V().hasId(within('2', '3'))"));
+    }
+
+    @Test
+    public void testFindAllAsyncBatchesEdgeVertices() {
+        final GremlinTemplate findTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            public List<Result> executeQuery(@NonNull List<String> queries, @NonNull Map<String, Object> bindings) {
+                throw new AssertionError("blocking query " + queries);
+            }
+
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.startsWith("g.E()")) {
+                    return CompletableFuture.completedFuture(Arrays.asList(toEdgeResult("e0", "1", "2"),
+                        toEdgeResult("e1", "4", "3"), toEdgeResult("e2", "5", "2")));
+                } else if (query.contains("'4'")) {
+                    return CompletableFuture.completedFuture(Collections.singletonList(toVertexResult("4")));
+                }
+
+                return CompletableFuture.completedFuture(Arrays.asList(
+                    toVertexResult("2", Project.class, TestConstants.VERTEX_PROJECT_LABEL),
+                    toVertexResult("3", Project.class, TestConstants.VERTEX_PROJECT_LABEL)));
+            }
+        };
+        final Person cached = new Person("1", "cached");
+
+        findTemplate.getDomainCache(Person.class).put("1", cached);
+
+        final List<Relationship> relationships =
+            new GremlinAsyncTemplate(findTemplate).findAllAsync(Relationship.class).join();
+
+        Assert.assertEquals(relationships.size(), 3);
+        Assert.assertSame(relationships.get(0).getPerson(), cached);
+        Assert.assertEquals(relationships.get(1).getPerson().getId(), "4");
+        Assert.assertNull(relationships.get(2).getPerson());
+        Assert.assertSame(relationships.get(0).getProject(), relationships.get(2).getProject());
+        Assert.assertEquals(relationships.get(1).getProject().getId(), "3");
+        Assert.assertEquals(this.submitted.size(), 3);
+        Assert.assertTrue(this.submitted.contains("g.V().hasId(within('4', '5'))"));
+        Assert.assertTrue(this.submitted.contains("g.V().hasId(within('2', '3'))"));
+    }
+
+    @Test
+    public void testDeleteAllByIdDropsInOneQuery() {
+        final Person person = new Person("0", "person-0");
+
+        this.template.getDomainCache(Person.class).put("0", person);
+        this.template.getDomainCache(Person.class).put("1", new Person("1", "person-1"));
+        this.template.getDomainCache(Person.class).put("2", new Person("2", "person-2"));
+
+        this.template.deleteAllById(Arrays.asList("0", "1", "0"), Person.class);
+
+        Assert.assertEquals(this.submitted, Collections.singletonList("g.V().hasId(within('0', '1')).drop()"));
+        Assert.assertEquals(this.template.getDomainCache(Person.class).size(), 1L);
+        Assert.assertNotNull(this.template.getDomainCache(Person.class).get("2"));
+    }
+
+    @Test
+    public void testSaveOnlyWritesChangedProperties() {
+        final AtomicLong exists = new AtomicLong(1L);
+        final GremlinTemplate trackingTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                if (query.endsWith(".count()")) {
+                    return CompletableFuture.completedFuture(Collections.singletonList(new Result(exists.get())));
+                }
+
+                return CompletableFuture.completedFuture(Collections.singletonList(toVertexResult("0")));
+            }
+        };
+        final Person person = trackingTemplate.findById("0", Person.class);
+
+        this.submitted.clear();
+        person.setName("bob");
+
+        trackingTemplate.save(person, Person.class);
+
+        Assert.assertEquals(this.submitted, Collections.singletonList("g.V('0').property(single, 'name', 'bob')"));
+        Assert.assertNull(trackingTemplate.getDomainCache(Person.class).get("0"));
+
+        trackingTemplate.save(new Person("0", "bob"), Person.class);
+
+        Assert.assertEquals(this.submitted.size(), 2);
+        Assert.assertEquals(this.submitted.get(1), "g.V().hasId('0').limit(1).count()");
+
+        exists.set(0L);
+        trackingTemplate.save(new Person("0", "bob"), Person.class);
+
+        Assert.assertEquals(this.submitted.size(), 4);
+        Assert.assertTrue(this.submitted.get(3).contains("addV('label-person')"));
+    }
+
+    @Test
+    public void testDomainCacheBoundedPerClass() {
+        final GremlinTemplate cacheTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return CompletableFuture.completedFuture(Collections.singletonList(
+                    toVertexResult(query.substring(query.indexOf('\'') + 1, query.lastIndexOf('\'')))));
+            }
+        };
+
+        cacheTemplate.setDomainCacheFactory(domainClass -> LruGremlinDomainCache.builder().maxSize(1).build());
+
+        final Person person = cacheTemplate.findById("0", Person.class);
+
+        Assert.assertSame(cacheTemplate.findById("0", Person.class), person);
+
+        cacheTemplate.findById("1", Person.class);
+
+        Assert.assertNotSame(cacheTemplate.findById("0", Person.class), person);
+        Assert.assertEquals(this.submitted.size(), 3);
+
+        final GremlinDomainCacheStats stats = cacheTemplate.getDomainCacheStats().get(Person.class);
+
+        Assert.assertEquals(stats.getHitCount(), 1L);
+        Assert.assertEquals(stats.getMissCount(), 3L);
+        Assert.assertEquals(stats.getEvictionCount(), 2L);
+        Assert.assertEquals(stats.getSize(), 1L);
+    }
+
+    private GremlinTemplate createPersonTemplate() {
+        return new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return CompletableFuture.completedFuture(Collections.singletonList(toVertexResult("0")));
+            }
+        };
+    }
+
+    @Test
+    public void testUpdateInvalidatesCachedDomain() {
+        final GremlinTemplate cacheTemplate = this.createPersonTemplate();
+        final Person person = cacheTemplate.findById("0", Person.class);
+
+        person.setName("bob");
+        cacheTemplate.update(person, Person.class);
+
+        Assert.assertNull(cacheTemplate.getDomainCache(Person.class).get("0"));
+        Assert.assertNotSame(cacheTemplate.findById("0", Person.class), person);
+        Assert.assertEquals(this.submitted.size(), 3);
+    }
+
+    @Test
+    public void testWriteThroughCachesWrittenDomain() {
+        Mockito.when(this.factory.getGremlinConfig()).thenReturn(GremlinConfig.builder("endpoint", "user", "password")
+            .domainCachePolicy(GremlinCachePolicy.WRITE_THROUGH).build());
+
+        final GremlinTemplate cacheTemplate = this.createPersonTemplate();
+        final Person person = new Person("0", "bob");
+
+        cacheTemplate.findById("0", Person.class);
+        cacheTemplate.save(person, Person.class);
+        this.submitted.clear();
+
+        Assert.assertSame(cacheTemplate.findById("0", Person.class), person);
+        Assert.assertTrue(this.submitted.isEmpty());
+
+        cacheTemplate.deleteById("0", Person.class);
+
+        Assert.assertNull(cacheTemplate.getDomainCache(Person.class).get("0"));
+    }
+
+    @Test
+    public void testDomainCacheAnnotation() {
+        final List<Class<?>> domainClass = new ArrayList<>(Collections.singletonList(Stock.class));
+        final GremlinTemplate cacheTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                final int start = query.indexOf('\'') + 1;
+
+                submitted.add(query);
+
+                return CompletableFuture.completedFuture(Collections.singletonList(toVertexResult(
+                    query.substring(start, query.indexOf('\'', start)), domainClass.get(0),
+                    domainClass.get(0).getSimpleName())));
+            }
+        };
+
+        cacheTemplate.findById("0", Stock.class);
+        cacheTemplate.findById("0", Stock.class);
+
+        Assert.assertEquals(this.submitted.size(), 2);
+        Assert.assertEquals(cacheTemplate.getDomainCache(Stock.class).size(), 0L);
+        Assert.assertNull(cacheTemplate.getSnapshot(GremlinUtils.toGremlinSource(Stock.class), "0"));
+
+        domainClass.set(0, Country.class);
+
+        final Country country = cacheTemplate.findById("0", Country.class);
+
+        cacheTemplate.save(new Country("0", "renamed"), Country.class);
+
+        Assert.assertSame(cacheTemplate.findById("0", Country.class), country);
+
+        cacheTemplate.findById("1", Country.class);
+
+        Assert.assertEquals(cacheTemplate.getDomainCache(Country.class).size(), 1L);
+        Assert.assertNotNull(cacheTemplate.getDomainCache(Country.class).get("1"));
+    }
+
+    @Test
+    public void testQueryCacheInvalidatedByLabel() {
+        Mockito.when(this.factory.getGremlinConfig()).thenReturn(GremlinConfig.builder("endpoint", "user", "password")
+            .queryCacheEnabled(true).build());
+
+        final GremlinTemplate cacheTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return CompletableFuture.completedFuture(Arrays.asList(toVertexResult("0"), toVertexResult("1")));
+            }
+        };
+        final GremlinQuery query = new GremlinQuery(
+            Criteria.getUnaryInstance(CriteriaType.IS_EQUAL, "name", Collections.singletonList("person-0")));
+        final List<Person> persons = cacheTemplate.find(query, Person.class);
+
+        Assert.assertEquals(cacheTemplate.find(query, Person.class), persons);
+        Assert.assertSame(cacheTemplate.find(query, Person.class).get(1), persons.get(1));
+        Assert.assertEquals(this.submitted.size(), 1);
+
+        cacheTemplate.deleteById("0", Project.class);
+        cacheTemplate.find(query, Person.class);
+
+        Assert.assertEquals(this.submitted.size(), 2);
+
+        cacheTemplate.save(new Person("1", "bob"), Person.class);
+        cacheTemplate.find(query, Person.class);
+
+        Assert.assertEquals(this.submitted.size(), 4);
+        final GremlinDomainCacheStats stats = cacheTemplate.getQueryCacheStats().get(TestConstants.VERTEX_PERSON_LABEL);
+
+        Assert.assertEquals(stats.getHitCount(), 3L);
+    }
+
+    @Test
+    public void testConcurrentFindByIdSharesQuery() throws Exception {
+        final CompletableFuture<List<Result>> response = new CompletableFuture<>();
+        final GremlinTemplate findTemplate = new GremlinTemplate(this.factory, this.createConverter()) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return response;
+            }
+        };
+        final CompletableFuture<Person> first =
+            CompletableFuture.supplyAsync(() -> findTemplate.findById("0", Person.class));
+
+        while (this.submitted.isEmpty()) {
+            Thread.sleep(1);
+        }
+
+        final AtomicReference<Person> second = new AtomicReference<>();
+        final Thread follower = new Thread(() -> second.set(findTemplate.findById("0", Person.class)));
+
+        follower.start();
+
+        while (follower.getState() != Thread.State.WAITING && follower.isAlive()) {
+            Thread.sleep(1);
+        }
+
+        response.complete(Collections.singletonList(toVertexResult("0")));
+        follower.join();
+
+        Assert.assertSame(second.get(), first.get());
+        Assert.assertEquals(this.submitted.size(), 1);
+    }
+}
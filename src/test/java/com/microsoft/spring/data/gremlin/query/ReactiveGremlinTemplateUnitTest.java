@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.query;
+
+import com.microsoft.spring.data.gremlin.common.GremlinFactory;
+import com.microsoft.spring.data.gremlin.common.GremlinUtils;
+import com.microsoft.spring.data.gremlin.common.TestConstants;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.conversion.MappingGremlinConverter;
+import com.microsoft.spring.data.gremlin.exception.GremlinQueryException;
+import com.microsoft.spring.data.gremlin.mapping.GremlinMappingContext;
+import com.microsoft.spring.data.gremlin.repository.ReactiveGremlinRepository;
+import com.microsoft.spring.data.gremlin.repository.support.ReactiveGremlinRepositoryFactory;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.microsoft.spring.data.gremlin.common.Constants.GREMLIN_PROPERTY_CLASSNAME;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_ID;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_LABEL;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_PROPERTIES;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_TYPE;
+import static com.microsoft.spring.data.gremlin.common.Constants.PROPERTY_VALUE;
+import static com.microsoft.spring.data.gremlin.common.Constants.RESULT_TYPE_VERTEX;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveGremlinTemplateUnitTest {
+
+    private static final int PERSON_COUNT = 5;
+
+    @Mock
+    private GremlinFactory factory;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    private GremlinTemplate gremlinTemplate;
+
+    private ReactiveGremlinTemplate template;
+
+    private final List<String> submitted = new ArrayList<>();
+
+    private final List<Integer> fetched = new ArrayList<>();
+
+    private RuntimeException failure;
+
+    interface ReactivePersonRepository extends ReactiveGremlinRepository<Person, String> {
+
+        Flux<Person> findByName(String name);
+
+        Mono<Person> findOneByName(String name);
+    }
+
+    private static Object toProperty(Object value) {
+        final Map<String, Object> property = new HashMap<>();
+
+        property.put(PROPERTY_VALUE, value);
+
+        return new ArrayList<>(Collections.singletonList(property));
+    }
+
+    private static Result toVertexResult(@NonNull Person person) {
+        final Map<String, Object> properties = new HashMap<>();
+        final Map<String, Object> vertex = new HashMap<>();
+
+        properties.put("name", toProperty(person.getName()));
+        properties.put(GREMLIN_PROPERTY_CLASSNAME, toProperty(Person.class.getName()));
+
+        vertex.put(PROPERTY_ID, person.getId());
+        vertex.put(PROPERTY_LABEL, TestConstants.VERTEX_PERSON_LABEL);
+        vertex.put(PROPERTY_TYPE, RESULT_TYPE_VERTEX);
+        vertex.put(PROPERTY_PROPERTIES, properties);
+
+        return new Result(vertex);
+    }
+
+    @Before
+    public void setup() {
+        final GremlinMappingContext mappingContext = new GremlinMappingContext();
+
+        mappingContext.setApplicationContext(this.applicationContext);
+        mappingContext.afterPropertiesSet();
+        mappingContext.getPersistentEntity(Person.class);
+
+        final List<Result> results = new ArrayList<>();
+
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            results.add(toVertexResult(new Person(String.valueOf(i), "person-" + i)));
+        }
+
+        this.gremlinTemplate = new GremlinTemplate(this.factory,
+            new MappingGremlinConverter(mappingContext)) {
+            @Override
+            protected CompletableFuture<List<Result>> submitQuery(@NonNull String query,
+                                                                  @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                return CompletableFuture.completedFuture(Collections.emptyList());
+            }
+        };
+
+        this.template = new ReactiveGremlinTemplate(new GremlinAsyncTemplate(this.gremlinTemplate)) {
+            @Override
+            protected Mono<ResultFetcher> submitQuery(@NonNull String query, @NonNull Map<String, Object> bindings) {
+                submitted.add(query);
+
+                final List<Result> remaining = new ArrayList<>(results);
+
+                return Mono.just(count -> {
+                    fetched.add(count);
+
+                    if (failure != null) {
+                        final CompletableFuture<List<Result>> future = new CompletableFuture<>();
+
+                        future.completeExceptionally(failure);
+
+                        return future;
+                    }
+
+                    final List<Result> batch = new ArrayList<>(remaining.subList(0, Math.min(count, remaining.size())));
+
+                    remaining.removeAll(batch);
+
+                    return CompletableFuture.completedFuture(batch);
+                });
+            }
+        };
+    }
+
+    @Test
+    public void testFindAllFollowsDemand() {
+        StepVerifier.create(this.template.findAll(Person.class), 0)
+            .then(() -> Assert.assertTrue(this.fetched.isEmpty()))
+            .thenRequest(2)
+            .expectNextMatches(person -> person.getId().equals("0") && person.getName().equals("person-0"))
+            .expectNextMatches(person -> person.getId().equals("1"))
+            .then(() -> Assert.assertEquals(this.fetched, Collections.singletonList(2)))
+            .thenRequest(Long.MAX_VALUE)
+            .expectNextCount(PERSON_COUNT - 2)
+            .verifyComplete();
+
+        Assert.assertEquals(this.submitted.size(), 1);
+    }
+
+    @Test
+    public void testNothingSubmittedBeforeSubscription() {
+        this.template.findAll(Person.class);
+
+        Assert.assertTrue(this.submitted.isEmpty());
+    }
+
+    @Test
+    public void testFindAllFailure() {
+        this.failure = new IllegalStateException("connection closed");
+
+        StepVerifier.create(this.template.findAll(Person.class))
+            .expectErrorMatches(e -> e instanceof GremlinQueryException && e.getCause() == this.failure)
+            .verify();
+    }
+
+    @Test
+    public void testDeleteAllByClassEvictsCache() {
+        this.gremlinTemplate.getDomainCache(Person.class).put("0", new Person("0", "person-0"));
+
+        StepVerifier.create(this.template.deleteAll(GremlinUtils.toGremlinSource(Person.class))).verifyComplete();
+
+        Assert.assertNull(this.gremlinTemplate.getDomainCache(Person.class).get("0"));
+        Assert.assertEquals(this.submitted.size(), 1);
+    }
+
+    @Test
+    public void testDerivedQuery() {
+        final ReactivePersonRepository repository = new ReactiveGremlinRepositoryFactory(this.template)
+            .getRepository(ReactivePersonRepository.class);
+
+        StepVerifier.create(repository.findByName("person-0"))
+            .expectNextCount(PERSON_COUNT)
+            .verifyComplete();
+
+        StepVerifier.create(repository.findOneByName("person-0").map(Person::getId))
+            .expectNext("0")
+            .verifyComplete();
+
+        Assert.assertEquals(this.submitted.get(0), "g.V().has(label, 'label-person').where(has('name', 'person-0'))");
+    }
+}
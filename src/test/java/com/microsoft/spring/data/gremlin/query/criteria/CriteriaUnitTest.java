@@ -9,6 +9,7 @@ package com.microsoft.spring.data.gremlin.query.criteria;
 import com.microsoft.spring.data.gremlin.common.Constants;
 import com.microsoft.spring.data.gremlin.common.domain.Person;
 import com.microsoft.spring.data.gremlin.query.query.GremlinQuery;
+import com.microsoft.spring.data.gremlin.query.query.QueryCountScriptGenerator;
 import com.microsoft.spring.data.gremlin.query.query.QueryFindScriptGenerator;
 import com.microsoft.spring.data.gremlin.repository.support.GremlinEntityInformation;
 import org.junit.Assert;
@@ -69,4 +70,19 @@ public class CriteriaUnitTest {
 
         Assert.assertEquals(gremlinQuery, notResult);
     }
+
+    @Test
+    public void testCountCriteria() {
+        final Criteria criteria = Criteria.getUnaryInstance(IS_EQUAL, "name", Arrays.asList("Patrick"));
+        final GremlinEntityInformation<Person, String> personInfo =
+            GremlinEntityInformation.get(Person.class);
+        final QueryCountScriptGenerator countScriptGenerator =
+            new QueryCountScriptGenerator(personInfo.createGremlinSource());
+
+        final List<String> stringList = countScriptGenerator.generate(new GremlinQuery(criteria));
+
+        Assert.assertEquals(1, stringList.size());
+        Assert.assertEquals("g.V().has(label, 'label-person').where(has('name', 'Patrick')).count()",
+            stringList.get(0));
+    }
 }
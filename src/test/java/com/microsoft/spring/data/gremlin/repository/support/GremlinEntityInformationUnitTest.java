@@ -6,6 +6,9 @@
 package com.microsoft.spring.data.gremlin.repository.support;
 
 
+import com.microsoft.spring.data.gremlin.annotation.DomainCache;
+import com.microsoft.spring.data.gremlin.annotation.Vertex;
+import com.microsoft.spring.data.gremlin.common.GremlinCachePolicy;
 import com.microsoft.spring.data.gremlin.common.TestConstants;
 import com.microsoft.spring.data.gremlin.common.domain.Network;
 import com.microsoft.spring.data.gremlin.common.domain.Person;
@@ -15,9 +18,12 @@ import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceGraph;
 import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
 import com.microsoft.spring.data.gremlin.exception.GremlinInvalidEntityIdFieldException;
 import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedEntityTypeException;
+import com.microsoft.spring.data.gremlin.exception.GremlinUnexpectedSourceTypeException;
 import org.junit.Assert;
 import org.junit.Test;
 import org.springframework.data.annotation.Id;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 
 import lombok.Data;
@@ -52,6 +58,41 @@ public class GremlinEntityInformationUnitTest {
         Assert.assertTrue(networkInfo.createGremlinSource() instanceof GremlinSourceGraph);
     }
 
+    @Test
+    public void testDomainCacheResolved() {
+        final DomainCache domainCache = GremlinEntityInformation.get(TestCachedDomain.class).getDomainCache();
+
+        Assert.assertNotNull(domainCache);
+        Assert.assertEquals(domainCache.policy(), GremlinCachePolicy.READ_THROUGH);
+        Assert.assertEquals(domainCache.maxSize(), 1L);
+        Assert.assertEquals(domainCache.expireAfterWrite(), 60000L);
+        Assert.assertNull(GremlinEntityInformation.get(Person.class).getDomainCache());
+    }
+
+    @Test
+    public void testGetByClassName() {
+        GremlinEntityInformation.registerAll(Arrays.asList(Person.class, Relationship.class, TestDomain.class,
+            TestInvalidVertex.class));
+
+        Assert.assertSame(GremlinEntityInformation.getByClassName(Person.class.getName()),
+            GremlinEntityInformation.get(Person.class));
+        Assert.assertSame(GremlinEntityInformation.getByClassName(Relationship.class.getName()).getJavaType(),
+            Relationship.class);
+        Assert.assertSame(GremlinEntityInformation.getByClassName(Network.class.getName()),
+            GremlinEntityInformation.getByClassName(Network.class.getName()));
+    }
+
+    @Test(expected = GremlinInvalidEntityIdFieldException.class)
+    public void testGetByClassNameInvalidDomain() {
+        GremlinEntityInformation.registerAll(Collections.singletonList(TestInvalidVertex.class));
+        GremlinEntityInformation.getByClassName(TestInvalidVertex.class.getName());
+    }
+
+    @Test(expected = GremlinUnexpectedSourceTypeException.class)
+    public void testGetByClassNameNotFound() {
+        GremlinEntityInformation.getByClassName("com.microsoft.NotFound");
+    }
+
     @Test(expected = GremlinUnexpectedEntityTypeException.class)
     public void testEntityInformationException() {
         GremlinEntityInformation.get(TestDomain.class).createGremlinSource();
@@ -110,4 +151,18 @@ public class GremlinEntityInformationUnitTest {
         @Id
         private Date date;
     }
+
+    @Data
+    @Vertex
+    private class TestInvalidVertex {
+        @Id
+        private Date date;
+    }
+
+    @Data
+    @Vertex
+    @DomainCache(policy = GremlinCachePolicy.READ_THROUGH, maxSize = 1, expireAfterWrite = 60000)
+    private class TestCachedDomain {
+        private String id;
+    }
 }
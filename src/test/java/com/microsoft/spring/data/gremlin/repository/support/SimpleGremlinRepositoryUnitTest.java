@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) Microsoft Corporation. All rights reserved.
+ * Licensed under the MIT License. See LICENSE in the project root for
+ * license information.
+ */
+package com.microsoft.spring.data.gremlin.repository.support;
+
+import com.microsoft.spring.data.gremlin.common.domain.Network;
+import com.microsoft.spring.data.gremlin.common.domain.Person;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceGraph;
+import com.microsoft.spring.data.gremlin.conversion.source.GremlinSourceVertex;
+import com.microsoft.spring.data.gremlin.query.GremlinOperations;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SimpleGremlinRepositoryUnitTest {
+
+    @Mock
+    private GremlinOperations operations;
+
+    @Test
+    public void testDeleteAllVertices() {
+        final SimpleGremlinRepository<Person, String> repository =
+            new SimpleGremlinRepository<>(GremlinEntityInformation.get(Person.class), this.operations);
+
+        repository.deleteAll(Arrays.asList(new Person("1", "bill"), new Person("2", "bob")));
+
+        verify(this.operations).deleteAllById(eq(Arrays.asList("1", "2")), any(GremlinSourceVertex.class));
+    }
+
+    @Test
+    public void testDeleteAllGraphs() {
+        final SimpleGremlinRepository<Network, String> repository =
+            new SimpleGremlinRepository<>(GremlinEntityInformation.get(Network.class), this.operations);
+        final Network network = new Network();
+
+        network.setId("1");
+
+        repository.deleteAll(Collections.singletonList(network));
+        repository.deleteAllById(Collections.singletonList("2"));
+
+        verify(this.operations).deleteById(eq("1"), any(GremlinSourceGraph.class));
+        verify(this.operations).deleteById(eq("2"), any(GremlinSourceGraph.class));
+        verify(this.operations, never()).deleteAllById(anyList(), any(GremlinSourceGraph.class));
+    }
+}